@@ -0,0 +1,91 @@
+package io.goorm.mybatisboard.benchmark;
+
+import io.goorm.mybatisboard.MybatisBoardApplication;
+import io.goorm.mybatisboard.search.PostSearchIndex;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트
+ * h2 프로필(Flyway 마이그레이션 포함)로 기동한 뒤 지정한 건수만큼 게시글을 적재 (기본은 웹 서버 없이)
+ * 쿼리 비용을 재도록 결과 캐시(매퍼 2차 캐시, 검색/페이지/개수 캐시, 미리 조회)는 기본으로 끔 - 필요하면 properties로 다시 켬
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    public static ConfigurableApplicationContext start(int posts, String... properties) {
+        return start(WebApplicationType.NONE, posts, properties);
+    }
+
+    /**
+     * 임의 포트의 내장 Tomcat까지 기동 (HTTP 부하 측정용) - 포트는 serverPort(context)
+     */
+    public static ConfigurableApplicationContext startWeb(int posts, String... properties) {
+        String[] merged = new String[properties.length + 1];
+        merged[0] = "server.port=0";
+        System.arraycopy(properties, 0, merged, 1, properties.length);
+        return start(WebApplicationType.SERVLET, posts, merged);
+    }
+
+    public static int serverPort(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType type, int posts, String... properties) {
+        String[] defaults = {
+                "spring.profiles.active=h2",
+                "spring.datasource.url=jdbc:h2:mem:bench" + posts + "_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+                "logging.level.root=WARN",
+                "logging.level.org.mybatis=WARN",
+                "logging.level.io.goorm.mybatisboard=WARN",
+                "mybatis.configuration.cache-enabled=false",
+                "board.search-cache.enabled=false",
+                "board.page-cache.enabled=false",
+                "board.count.ttl-seconds=0",
+                "board.prefetch.enabled=false"
+        };
+        // 기본 속성(properties)은 application*.yml보다 우선순위가 낮으므로 명령행 인자로 전달 (같은 키는 뒤의 값 사용)
+        Map<String, String> merged = new LinkedHashMap<>();
+        for (String property : defaults) {
+            merged.put(property.substring(0, property.indexOf('=')), property);
+        }
+        for (String property : properties) {
+            merged.put(property.substring(0, property.indexOf('=')), property);
+        }
+        String[] args = merged.values().stream().map(property -> "--" + property).toArray(String[]::new);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MybatisBoardApplication.class)
+                .web(type)
+                .run(args);
+        seed(context.getBean(JdbcTemplate.class), posts);
+        context.getBean(PostSearchIndex.class).rebuild();
+        return context;
+    }
+
+    /**
+     * SYSTEM_RANGE로 한 문장에 적재 - 작성일은 1초 간격, 카테고리/작성자/조회수는 고르게 분포
+     */
+    private static void seed(JdbcTemplate jdbcTemplate, int posts) {
+        jdbcTemplate.update("""
+                INSERT INTO posts (title, content, created_at, updated_at,
+                                   category_id, status, author_name, view_count, is_notice)
+                SELECT CONCAT('게시글 제목 ', X),
+                       CONCAT('게시글 내용입니다. 번호 ', X, ' 검색용 키워드 ', MOD(X, 100)),
+                       DATEADD('SECOND', -X, TIMESTAMP '2025-01-01 00:00:00'),
+                       DATEADD('SECOND', -X, TIMESTAMP '2025-01-01 00:00:00'),
+                       MOD(X, 5) + 1,
+                       'PUBLISHED',
+                       CONCAT('사용자', MOD(X, 20) + 1),
+                       MOD(X * 7919, 10000),
+                       MOD(X, 10) = 1
+                FROM SYSTEM_RANGE(1, ?)
+                """, posts);
+    }
+}
@@ -0,0 +1,100 @@
+package io.goorm.mybatisboard.benchmark;
+
+import io.goorm.mybatisboard.dto.CountedPostWithDetailsDto;
+import io.goorm.mybatisboard.dto.PageDto;
+import io.goorm.mybatisboard.dto.PostWithDetailsDto;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.mapper.PostMapper;
+import io.goorm.mybatisboard.support.WindowPageHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통합 검색 페이지 조회 - 목록 + COUNT 두 번 왕복 vs COUNT(*) OVER() 단일 조회
+ * 카운트 캐시의 영향을 배제하기 위해 매퍼를 직접 호출 (매퍼 2차 캐시는 BenchmarkData에서 꺼서 두 방식 모두 매번 DB 조회)
+ * - all: 조건 없음 (전체 행)
+ * - wide: 약 1% 일치 ("키워드 42")
+ * - narrow: 1건 일치
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PagingQueryBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"10000"})
+    public int posts;
+
+    @Param({"all", "wide", "narrow"})
+    public String selectivity;
+
+    private ConfigurableApplicationContext context;
+    private PostMapper postMapper;
+    private String keyword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.start(posts);
+        postMapper = context.getBean(PostMapper.class);
+        switch (selectivity) {
+            case "wide": keyword = "키워드 42"; break;
+            case "narrow": keyword = "번호 " + (posts / 2) + " 검색"; break;
+            default: keyword = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PageDto<PostWithDetailsDto> twoQueries() {
+        SearchConditionDto condition = condition();
+        List<PostWithDetailsDto> content = postMapper.findAllWithConditions(condition);
+        int total = postMapper.countAllWithConditions(condition);
+        return PageDto.of(content, condition.getPage(), condition.getSize(), total);
+    }
+
+    @Benchmark
+    public PageDto<PostWithDetailsDto> windowCount() {
+        SearchConditionDto condition = condition();
+        WindowPageHandler<CountedPostWithDetailsDto> handler = new WindowPageHandler<>();
+        postMapper.findAllWithConditionsCounted(condition, handler);
+        List<PostWithDetailsDto> content = new ArrayList<>(handler.getRows());
+        return PageDto.of(content, condition.getPage(), condition.getSize(), handler.getTotal());
+    }
+
+    private SearchConditionDto condition() {
+        SearchConditionDto condition = SearchConditionDto.builder()
+                .keyword(keyword)
+                .searchType("content")
+                .sortBy("created_at")
+                .sortDirection("DESC")
+                .page(1)
+                .size(PAGE_SIZE)
+                .build();
+        condition.validateAndCorrect();
+        return condition;
+    }
+}
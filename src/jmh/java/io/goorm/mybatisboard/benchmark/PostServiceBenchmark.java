@@ -0,0 +1,123 @@
+package io.goorm.mybatisboard.benchmark;
+
+import io.goorm.mybatisboard.dto.PageDto;
+import io.goorm.mybatisboard.dto.PostDetailDto;
+import io.goorm.mybatisboard.dto.PostFormDto;
+import io.goorm.mybatisboard.dto.PostListDto;
+import io.goorm.mybatisboard.dto.PostWithDetailsDto;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.model.Post;
+import io.goorm.mybatisboard.service.PostService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostService 주요 경로 처리량 측정 (gc 프로파일러로 할당률 함께 확인)
+ * 결과 캐시는 BenchmarkData에서 꺼서 조회/검색/개수 쿼리 비용을 측정
+ * 데이터 크기: ./gradlew jmh -PjmhPosts=10000,1000000,10000000
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PostServiceBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+    private static final String KEYWORD = "키워드 42";
+
+    @Param({"10000"})
+    public int posts;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private int deepPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.start(posts);
+        postService = context.getBean(PostService.class);
+        deepPage = Math.max(1, posts / PAGE_SIZE - 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // ========== 목록 ==========
+
+    @Benchmark
+    public PageDto<PostListDto> findAllShallow() {
+        return postService.findAll(1, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public PageDto<PostListDto> findAllDeep() {
+        return postService.findAll(deepPage, PAGE_SIZE);
+    }
+
+    // ========== 검색 ==========
+
+    @Benchmark
+    public PageDto<PostListDto> searchShallow() {
+        return postService.findAll(1, PAGE_SIZE, "title_content", KEYWORD);
+    }
+
+    @Benchmark
+    public PageDto<PostListDto> searchDeep() {
+        return postService.findAll(deepPage / 100 + 1, PAGE_SIZE, "title_content", KEYWORD);
+    }
+
+    @Benchmark
+    public PageDto<PostWithDetailsDto> conditionsShallow() {
+        return postService.findAllWithConditions(condition(1));
+    }
+
+    @Benchmark
+    public PageDto<PostWithDetailsDto> conditionsDeep() {
+        return postService.findAllWithConditions(condition(deepPage));
+    }
+
+    // ========== 상세/저장 ==========
+
+    @Benchmark
+    public PostDetailDto findBySeq() {
+        return postService.findBySeq(ThreadLocalRandom.current().nextLong(1, posts + 1));
+    }
+
+    @Benchmark
+    public Post save() {
+        PostFormDto form = new PostFormDto();
+        form.setTitle("벤치마크 게시글");
+        form.setContent("벤치마크 내용");
+        form.setCategoryId(2L);
+        form.setAuthorName("벤치마크");
+        return postService.save(form);
+    }
+
+    private static SearchConditionDto condition(int page) {
+        return SearchConditionDto.builder()
+                .sortBy("view_count")
+                .sortDirection("DESC")
+                .page(page)
+                .size(PAGE_SIZE)
+                .build();
+    }
+}
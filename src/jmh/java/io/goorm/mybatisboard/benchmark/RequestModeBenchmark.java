@@ -0,0 +1,104 @@
+package io.goorm.mybatisboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 실행 모드 비교 - 플랫폼 스레드(Tomcat 기본 풀) vs 가상 스레드 + JDBC 세마포어(vthreads 프로필)
+ * 내장 Tomcat에 목록:검색:쓰기 = 8:4:1 비율의 동시 HTTP 부하를 걸어 처리량과 지연시간 분포(SampleTime)를 측정
+ * 클라이언트 스레드 수(208)는 Tomcat 기본 최대 스레드(200)보다 많게 설정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class RequestModeBenchmark {
+
+    @Param({"10000"})
+    public int posts;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String profiles = "virtual".equals(threads) ? "spring.profiles.active=h2,vthreads" : "spring.profiles.active=h2";
+        // 렌더링 캐시가 응답하면 스레드 모델 차이가 드러나지 않으므로 끔
+        context = BenchmarkData.startWeb(posts, profiles, "board.page-cache.enabled=false");
+        baseUrl = "http://localhost:" + BenchmarkData.serverPort(context);
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(128)
+    public int list() throws IOException, InterruptedException {
+        int page = ThreadLocalRandom.current().nextInt(1, 51);
+        return get("/posts?page=" + page + "&size=10");
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(64)
+    public int search() throws IOException, InterruptedException {
+        String keyword = URLEncoder.encode("키워드 " + ThreadLocalRandom.current().nextInt(100), StandardCharsets.UTF_8);
+        return get("/posts/search?keyword=" + keyword + "&searchType=content&sortBy=view_count&sortDirection=DESC");
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(16)
+    public int write() throws IOException, InterruptedException {
+        String form = "title=" + URLEncoder.encode("부하 테스트 게시글", StandardCharsets.UTF_8)
+                + "&content=" + URLEncoder.encode("부하 테스트 내용", StandardCharsets.UTF_8)
+                + "&authorName=" + URLEncoder.encode("벤치마크", StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/posts"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
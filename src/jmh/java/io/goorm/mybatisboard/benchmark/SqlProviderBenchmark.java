@@ -0,0 +1,126 @@
+package io.goorm.mybatisboard.benchmark;
+
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.mapper.CategoryMapper;
+import io.goorm.mybatisboard.mapper.PostMapper;
+import io.goorm.mybatisboard.mapper.provider.PostSearchSqlProvider;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.cache.impl.PerpetualCache;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통합 검색 SQL 생성 비용 - XML 동적 SQL vs PostSearchSqlProvider (모양별 SqlSource 캐시)
+ * DB 없이 MappedStatement.getBoundSql만 호출하여 요청당 SQL 조립 CPU를 비교
+ * - xml: 이전 maria PostMapper.xml 구문 (benchmark/xml-search-mapper.xml) - 매번 OGNL 평가 + SQL 조립 + #{} 파싱
+ * - provider: 비트마스크로 고른 SQL 문자열의 캐시된 SqlSource에서 BoundSql만 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlProviderBenchmark {
+
+    private static final String XML_NAMESPACE = "benchmark.XmlSearchMapper";
+
+    @Param({"none", "keyword", "full"})
+    public String conditions;
+
+    private MappedStatement xmlPage;
+    private MappedStatement xmlCount;
+    private MappedStatement providerPage;
+    private MappedStatement providerCount;
+    private SearchConditionDto condition;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Properties variables = new Properties();
+        variables.setProperty("listSnippetLength", "100");
+
+        Configuration xmlConfiguration = new Configuration();
+        xmlConfiguration.setVariables(variables);
+        String resource = "benchmark/xml-search-mapper.xml";
+        try (InputStream inputStream = Resources.getResourceAsStream(resource)) {
+            new XMLMapperBuilder(inputStream, xmlConfiguration, resource, xmlConfiguration.getSqlFragments()).parse();
+        }
+        xmlPage = xmlConfiguration.getMappedStatement(XML_NAMESPACE + ".findAllWithConditions");
+        xmlCount = xmlConfiguration.getMappedStatement(XML_NAMESPACE + ".countAllWithConditions");
+
+        // 매퍼 XML 없이 인터페이스만 등록 - @CacheNamespaceRef 대상 캐시를 먼저 등록
+        PostSearchSqlProvider.configure(100);
+        Configuration providerConfiguration = new Configuration();
+        providerConfiguration.setVariables(variables);
+        providerConfiguration.addCache(new PerpetualCache(PostMapper.class.getName()));
+        providerConfiguration.addCache(new PerpetualCache(CategoryMapper.class.getName()));
+        providerConfiguration.addMapper(PostMapper.class);
+        providerConfiguration.addMapper(CategoryMapper.class);
+        providerPage = providerConfiguration.getMappedStatement(PostMapper.class.getName() + ".findAllWithConditions");
+        providerCount = providerConfiguration.getMappedStatement(PostMapper.class.getName() + ".countAllWithConditions");
+
+        condition = condition();
+    }
+
+    @Benchmark
+    public BoundSql xmlPage() {
+        return xmlPage.getBoundSql(condition);
+    }
+
+    @Benchmark
+    public BoundSql providerPage() {
+        return providerPage.getBoundSql(condition);
+    }
+
+    @Benchmark
+    public BoundSql xmlCount() {
+        return xmlCount.getBoundSql(condition);
+    }
+
+    @Benchmark
+    public BoundSql providerCount() {
+        return providerCount.getBoundSql(condition);
+    }
+
+    private SearchConditionDto condition() {
+        SearchConditionDto.SearchConditionDtoBuilder builder = SearchConditionDto.builder()
+                .sortBy("view_count")
+                .sortDirection("DESC")
+                .page(3)
+                .size(10);
+        switch (conditions) {
+            case "keyword":
+                builder.keyword("키워드 42").searchType("title_content");
+                break;
+            case "full":
+                builder.keyword("키워드 42").searchType("title")
+                        .startDate(LocalDate.of(2024, 1, 1)).endDate(LocalDate.of(2024, 12, 31));
+                break;
+            default:
+                break;
+        }
+        SearchConditionDto built = builder.build();
+        built.validateAndCorrect();
+        return built;
+    }
+}
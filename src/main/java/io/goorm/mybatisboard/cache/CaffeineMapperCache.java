@@ -0,0 +1,163 @@
+package io.goorm.mybatisboard.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.goorm.mybatisboard.dto.CacheStatsDto;
+import lombok.Setter;
+import org.apache.ibatis.builder.InitializingObject;
+import org.apache.ibatis.cache.CacheException;
+import org.apache.ibatis.io.Resources;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매퍼 2차 캐시 (Caffeine W-TinyLFU)
+ * 매퍼 XML의 &lt;cache type="..."&gt;로 네임스페이스마다 생성되며 &lt;property&gt;로 크기/TTL 지정
+ * - 값은 직렬화한 바이트로 보관 (서비스가 결과 DTO를 수정해도 캐시가 오염되지 않음)
+ * - maximumWeight는 직렬화 크기(바이트) 기준
+ * - insert/update/delete 실행 시 MyBatis가 네임스페이스 단위로 clear() 호출
+ */
+public class CaffeineMapperCache implements org.apache.ibatis.cache.Cache, InitializingObject {
+
+    private static final Map<String, CaffeineMapperCache> INSTANCES = new ConcurrentHashMap<>();
+
+    private final String id;
+    private Cache<Object, byte[]> delegate;
+
+    @Setter
+    private long maximumWeight = 16L * 1024 * 1024;     // 최대 직렬화 크기 합계 (바이트)
+    @Setter
+    private long expireAfterWriteSeconds = 300;         // 적재 후 만료 시간
+
+    public CaffeineMapperCache(String id) {
+        this.id = id;
+    }
+
+    /**
+     * &lt;property&gt; 적용 후 MyBatis가 호출
+     */
+    @Override
+    public void initialize() {
+        delegate = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Object key, byte[] value) -> value.length)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        INSTANCES.put(id, this);
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void putObject(Object key, Object value) {
+        // 조회 결과가 없던 키는 TransactionalCache가 null로 넣으므로 무시
+        if (value == null) {
+            return;
+        }
+        delegate.put(key, serialize(value));
+    }
+
+    @Override
+    public Object getObject(Object key) {
+        byte[] value = delegate.getIfPresent(key);
+        return value != null ? deserialize(value) : null;
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        byte[] value = delegate.asMap().remove(key);
+        return value != null ? deserialize(value) : null;
+    }
+
+    @Override
+    public void clear() {
+        delegate.invalidateAll();
+    }
+
+    @Override
+    public int getSize() {
+        return (int) delegate.estimatedSize();
+    }
+
+    public CacheStatsDto stats() {
+        CacheStats stats = delegate.stats();
+        long weightedSize = delegate.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+        return new CacheStatsDto(id, delegate.estimatedSize(), weightedSize, maximumWeight,
+                stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount());
+    }
+
+    /**
+     * 생성된 모든 매퍼 캐시의 통계
+     */
+    public static List<CacheStatsDto> allStats() {
+        Collection<CaffeineMapperCache> caches = INSTANCES.values();
+        List<CacheStatsDto> result = new ArrayList<>(caches.size());
+        for (CaffeineMapperCache cache : caches) {
+            result.add(cache.stats());
+        }
+        return result;
+    }
+
+    // ========== 직렬화 ==========
+
+    private byte[] serialize(Object value) {
+        if (!(value instanceof Serializable)) {
+            throw new CacheException("캐시할 수 없는 결과 타입입니다. (Serializable 필요): " + value.getClass().getName());
+        }
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new CacheException("캐시 값 직렬화에 실패했습니다: " + id, e);
+        }
+    }
+
+    private Object deserialize(byte[] value) {
+        try (ObjectInputStream in = new ClassLoaderAwareInputStream(new ByteArrayInputStream(value))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CacheException("캐시 값 역직렬화에 실패했습니다: " + id, e);
+        }
+    }
+
+    /**
+     * devtools 재시작 클래스로더에서도 DTO 클래스를 찾도록 MyBatis Resources로 로딩
+     */
+    private static class ClassLoaderAwareInputStream extends ObjectInputStream {
+
+        ClassLoaderAwareInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Resources.classForName(desc.getName());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package io.goorm.mybatisboard.cache;
+
+import io.goorm.mybatisboard.dto.CategoryDto;
+import io.goorm.mybatisboard.mapper.CategoryMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 메타데이터 캐시
+ * categories 테이블을 불변 스냅샷으로 보관하여 id→이름 조회와 카테고리 목록을 DB 왕복 없이 제공
+ * - 시작 시 적재, 주기(TTL)마다 또는 refresh() 호출 시 새 스냅샷으로 교체
+ * - 반환하는 목록은 공유 스냅샷이므로 호출자가 수정하면 안 됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryCache {
+
+    private static final String UNCATEGORIZED = "미분류";
+
+    private final CategoryMapper categoryMapper;
+
+    private volatile Snapshot snapshot;
+
+    // ========== 조회 ==========
+
+    /**
+     * 카테고리 이름 (없으면 "미분류") - 작은 id는 배열 인덱스로 조회하여 할당 없음
+     */
+    public String nameOf(Long categoryId) {
+        if (categoryId == null) {
+            return UNCATEGORIZED;
+        }
+        CategoryDto category = current().find(categoryId);
+        return category != null ? category.getName() : UNCATEGORIZED;
+    }
+
+    public List<CategoryDto> getAllCategories() {
+        return current().all;
+    }
+
+    public List<CategoryDto> getActiveCategories() {
+        return current().active;
+    }
+
+    // ========== 갱신 ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${board.category.refresh-interval-ms:300000}",
+               initialDelayString = "${board.category.refresh-interval-ms:300000}")
+    public void refresh() {
+        List<CategoryDto> categories = categoryMapper.findAllForCache();
+        snapshot = new Snapshot(categories);
+        log.debug("Category cache refreshed: {} categories", categories.size());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 불변 스냅샷 - 교체만 하고 수정하지 않음
+     */
+    private static final class Snapshot {
+
+        private static final int DENSE_ID_LIMIT = 1024;
+
+        private final List<CategoryDto> all;
+        private final List<CategoryDto> active;
+        private final CategoryDto[] byDenseId;
+        private final Map<Long, CategoryDto> bySparseId;
+
+        private Snapshot(List<CategoryDto> categories) {
+            this.all = List.copyOf(categories);
+            this.active = categories.stream()
+                    .filter(category -> !Boolean.FALSE.equals(category.getIsActive()))
+                    .toList();
+
+            long maxDenseId = categories.stream()
+                    .mapToLong(CategoryDto::getId)
+                    .filter(id -> id >= 0 && id < DENSE_ID_LIMIT)
+                    .max()
+                    .orElse(-1);
+            this.byDenseId = new CategoryDto[(int) maxDenseId + 1];
+            Map<Long, CategoryDto> sparse = new HashMap<>();
+            for (CategoryDto category : categories) {
+                long id = category.getId();
+                if (id >= 0 && id < byDenseId.length) {
+                    byDenseId[(int) id] = category;
+                } else {
+                    sparse.put(id, category);
+                }
+            }
+            this.bySparseId = Map.copyOf(sparse);
+        }
+
+        private CategoryDto find(long id) {
+            if (id >= 0 && id < byDenseId.length) {
+                return byDenseId[(int) id];
+            }
+            return bySparseId.get(id);
+        }
+    }
+}
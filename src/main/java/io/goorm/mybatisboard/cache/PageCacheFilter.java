@@ -0,0 +1,129 @@
+package io.goorm.mybatisboard.cache;
+
+import io.goorm.mybatisboard.datasource.ReadYourWrites;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.support.SessionFlashMapManager;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 게시판 목록(/posts, /posts/search) 응답 캐시 필터
+ * 캐시 적중 시 매퍼 조회와 템플릿 렌더링 없이 저장된 본문을 반환하고, If-None-Match가 일치하면 304 응답
+ * 플래시 메시지가 남아있는 요청(등록/수정/삭제 직후 리다이렉트)은 화면이 달라지므로 캐시하지 않음
+ * 주 DB로 고정된 요청(자기 쓰기 직후)도 복제본 기준으로 렌더링된 캐시를 보지 않도록 우회
+ */
+@Component
+@RequiredArgsConstructor
+public class PageCacheFilter extends OncePerRequestFilter {
+
+    private static final String FLASH_MAPS_ATTRIBUTE = SessionFlashMapManager.class.getName() + ".FLASH_MAPS";
+
+    // 목록/검색 컨트롤러의 기본값과 같은 파라미터는 키에서 제외 (/posts와 /posts?page=1&size=10은 같은 화면)
+    private static final Map<String, String> DEFAULT_PARAMS = Map.of("page", "1", "size", "10");
+
+    private final RenderedPageCache renderedPageCache;
+
+    @Value("${board.page-cache.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !"/posts".equals(path) && !"/posts/search".equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // 적중/미적중/우회 모두 같은 URL이 인코딩별로 달라질 수 있으므로 공유 캐시가 구분하도록 항상 설정
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (hasFlashAttributes(request) || ReadYourWrites.isPinned()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = keyOf(request);
+        RenderedPageCache.CachedPage page = renderedPageCache.get(key);
+        if (page != null) {
+            writeCached(request, response, page);
+            return;
+        }
+
+        long generation = renderedPageCache.currentGeneration();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        String contentType = wrapper.getContentType();
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK
+                && contentType != null && contentType.startsWith("text/html")) {
+            page = renderedPageCache.put(key, generation, contentType, wrapper.getContentAsByteArray());
+            if (page != null) {
+                response.setHeader(HttpHeaders.ETAG, page.getEtag());
+                response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            }
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void writeCached(HttpServletRequest request, HttpServletResponse response,
+                             RenderedPageCache.CachedPage page) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, page.getEtag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.contains(page.getEtag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(page.getContentType());
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        byte[] body;
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = page.getGzipped();
+        } else {
+            body = RenderedPageCache.gunzip(page.getGzipped());
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean hasFlashAttributes(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return session != null && session.getAttribute(FLASH_MAPS_ATTRIBUTE) != null;
+    }
+
+    /**
+     * 정규화한 요청 키 - 경로 + 언어 + 비어있지 않고 기본값이 아닌 파라미터(이름순)
+     */
+    private static String keyOf(HttpServletRequest request) {
+        Map<String, String> params = new TreeMap<>();
+        request.getParameterMap().forEach((name, values) -> {
+            StringBuilder joined = new StringBuilder();
+            for (String value : values) {
+                if (value != null && !value.trim().isEmpty()) {
+                    joined.append(joined.length() > 0 ? "," : "").append(value.trim());
+                }
+            }
+            if (joined.length() > 0 && !joined.toString().equals(DEFAULT_PARAMS.get(name))) {
+                params.put(name, joined.toString());
+            }
+        });
+        return request.getRequestURI() + "|" + request.getLocale().toLanguageTag() + "|" + params;
+    }
+}
@@ -0,0 +1,172 @@
+package io.goorm.mybatisboard.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.goorm.mybatisboard.datasource.JdbcConcurrencyLimiter;
+import io.goorm.mybatisboard.datasource.ReadYourWrites;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 다음 목록 페이지 미리 조회 (opt-in)
+ * 페이지 N을 응답한 뒤 N+1(또는 다음 키셋 구간)을 백그라운드에서 조회해 짧은 TTL 캐시에 보관
+ * - 실행기는 크기/대기열이 제한되어 있으며 가득 차거나 커넥션 대기가 있으면 건너뜀 (부하 시 추가 쿼리 없음)
+ * - 게시글 쓰기 커밋 시 세대 증가로 일괄 무효화 - 무효화 전에 시작한 조회 결과는 저장하지 않음
+ * - 미리 조회 중에는 다시 미리 조회하지 않음 (연쇄 방지)
+ */
+@Component
+@Slf4j
+public class PagePrefetcher {
+
+    private static final ThreadLocal<Boolean> PREFETCHING = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final ObjectProvider<JdbcConcurrencyLimiter> jdbcConcurrencyLimiter;
+    private final AtomicLong generation = new AtomicLong();
+    private final Cache<String, Prefetched> pages;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    public PagePrefetcher(@Value("${board.prefetch.enabled:false}") boolean enabled,
+                          @Value("${board.prefetch.ttl-seconds:10}") long ttlSeconds,
+                          @Value("${board.prefetch.max-entries:1000}") long maxEntries,
+                          @Value("${board.prefetch.threads:2}") int threads,
+                          @Value("${board.prefetch.queue-capacity:16}") int queueCapacity,
+                          ObjectProvider<JdbcConcurrencyLimiter> jdbcConcurrencyLimiter) {
+        this.enabled = enabled;
+        this.jdbcConcurrencyLimiter = jdbcConcurrencyLimiter;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "page-prefetch-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 미리 조회한 페이지가 있으면 반환, 없으면 loader로 조회
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoad(String key, Supplier<T> loader) {
+        if (enabled) {
+            Prefetched page = pages.getIfPresent(key);
+            if (page != null && page.generation() == generation.get()) {
+                log.debug("Prefetched page hit: {}", key);
+                return (T) page.page();
+            }
+        }
+        return loader.get();
+    }
+
+    /**
+     * 다음 페이지를 백그라운드에서 조회하여 보관 (이미 있거나 조회 중이거나 부하 중이면 건너뜀)
+     */
+    public void prefetch(String key, Supplier<?> loader) {
+        if (!enabled || Boolean.TRUE.equals(PREFETCHING.get()) || underLoad()) {
+            return;
+        }
+        Prefetched existing = pages.getIfPresent(key);
+        if ((existing != null && existing.generation() == generation.get()) || !inFlight.add(key)) {
+            return;
+        }
+
+        long startedGeneration = generation.get();
+        Supplier<?> read = ReadYourWrites.propagate(loader);
+        try {
+            executor.execute(() -> {
+                PREFETCHING.set(Boolean.TRUE);
+                try {
+                    Object page = read.get();
+                    if (startedGeneration == generation.get()) {
+                        pages.put(key, new Prefetched(startedGeneration, page));
+                    }
+                } catch (RuntimeException e) {
+                    log.debug("Prefetch failed for {}: {}", key, e.getMessage());
+                } finally {
+                    PREFETCHING.remove();
+                    inFlight.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key);
+            log.debug("Prefetch skipped (executor saturated): {}", key);
+        }
+    }
+
+    /**
+     * 커넥션 대기 중인 요청이 있으면 부하 중으로 판단
+     */
+    private boolean underLoad() {
+        JdbcConcurrencyLimiter limiter = jdbcConcurrencyLimiter.getIfAvailable();
+        return limiter != null && limiter.getQueueLength() > 0;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        generation.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ========== 캐시 키 ==========
+
+    public static String listKey(int page, int size) {
+        return "list|" + page + "|" + size;
+    }
+
+    public static String listCursorKey(String cursor, String direction, int size, String searchType, String keyword) {
+        return "list-cursor|" + cursor + "|" + direction + "|" + size + "|" + searchType + "|" + keyword;
+    }
+
+    /**
+     * 통합 검색 조건 키 (validateAndCorrect 이후 호출)
+     */
+    public static String searchKey(SearchConditionDto condition) {
+        return String.join("|", "search",
+                String.valueOf(condition.getKeyword()),
+                condition.getSearchType(),
+                String.valueOf(condition.getCategoryIds()),
+                String.valueOf(condition.getStatus()),
+                String.valueOf(condition.getAuthorName()),
+                String.valueOf(condition.getIsNotice()),
+                String.valueOf(condition.getStartDate()),
+                String.valueOf(condition.getEndDate()),
+                condition.getSortBy(),
+                condition.getSortDirection(),
+                String.valueOf(condition.getSize()),
+                condition.isCursorMode()
+                        ? "cursor:" + condition.getCursor() + ":" + condition.getDirection()
+                        : "page:" + condition.getPage());
+    }
+
+    private record Prefetched(long generation, Object page) {
+    }
+}
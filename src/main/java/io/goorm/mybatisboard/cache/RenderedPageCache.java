@@ -0,0 +1,113 @@
+package io.goorm.mybatisboard.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 렌더링된 목록 페이지(HTML) 캐시
+ * 정규화한 요청을 키로 gzip 압축한 응답 본문을 보관하고, 게시글 쓰기 커밋 시 세대(generation) 증가로 일괄 무효화
+ * - 세대가 바뀐 항목은 조회 시 무시하므로 무효화 직후 렌더링 중이던 오래된 페이지가 저장되지 않음
+ * - 조회수 변화는 TTL 동안 반영되지 않음
+ */
+@Component
+@Slf4j
+public class RenderedPageCache {
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Cache<String, CachedPage> pages;
+
+    public RenderedPageCache(@Value("${board.page-cache.ttl-seconds:30}") long ttlSeconds,
+                             @Value("${board.page-cache.max-bytes:16777216}") long maxBytes) {
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedPage page) -> page.getGzipped().length + key.length())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 현재 세대의 캐시된 페이지 (없으면 null)
+     */
+    public CachedPage get(String key) {
+        CachedPage page = pages.getIfPresent(key);
+        return page != null && page.getGeneration() == generation.get() ? page : null;
+    }
+
+    /**
+     * 렌더링 결과 저장 - 렌더링 도중 쓰기가 커밋되었으면 저장하지 않고 null 반환
+     *
+     * @param renderedGeneration 렌더링 시작 시점의 세대
+     */
+    public CachedPage put(String key, long renderedGeneration, String contentType, byte[] body) {
+        if (renderedGeneration != generation.get()) {
+            return null;
+        }
+        CachedPage page = new CachedPage(contentType, gzip(body), etagOf(renderedGeneration, body), renderedGeneration);
+        pages.put(key, page);
+        return page;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        long next = generation.incrementAndGet();
+        pages.invalidateAll();
+        log.debug("Rendered page cache invalidated (generation={})", next);
+    }
+
+    // ========== 압축/ETag ==========
+
+    private static String etagOf(long generation, byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return "\"" + generation + "-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static byte[] gunzip(byte[] gzipped) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedPage {
+        private final String contentType;
+        private final byte[] gzipped;
+        private final String etag;
+        private final long generation;
+    }
+}
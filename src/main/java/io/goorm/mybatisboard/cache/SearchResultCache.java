@@ -0,0 +1,149 @@
+package io.goorm.mybatisboard.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.goorm.mybatisboard.dto.CacheStatsDto;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 통합 검색 결과 캐시
+ * 정규화한 검색 조건 → 해당 페이지의 게시글 id 목록 + 전체 개수 (DTO 대신 id만 보관하여 항목이 작음)
+ * - 적중 시 LIKE 검색과 COUNT 대신 id로 PK 조회만 수행
+ * - 게시글 쓰기 커밋마다 전역 세대를 올려 일괄 무효화 - 무효화 전에 시작한 조회 결과는 저장하지 않음
+ * - 조회수 등 쓰기 외 변경은 TTL로 반영
+ */
+@Component
+public class SearchResultCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final boolean enabled;
+    private final long maximumWeight;
+    private final AtomicLong generation = new AtomicLong();
+    private final Cache<String, CachedResult> results;
+
+    public SearchResultCache(@Value("${board.search-cache.enabled:true}") boolean enabled,
+                             @Value("${board.search-cache.ttl-seconds:60}") long ttlSeconds,
+                             @Value("${board.search-cache.max-bytes:4194304}") long maximumWeight) {
+        this.enabled = enabled;
+        this.maximumWeight = maximumWeight;
+        this.results = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((String key, CachedResult value) -> value.weight(key))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 조회 시작 전 세대 - put()에 그대로 넘겨 조회 도중 쓰기가 있었는지 판별
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 현재 세대의 캐시 결과 (없거나 무효화되었으면 null)
+     */
+    public CachedResult get(String key) {
+        if (!enabled) {
+            return null;
+        }
+        CachedResult cached = results.getIfPresent(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.generation() != generation.get()) {
+            results.invalidate(key);
+            return null;
+        }
+        return cached;
+    }
+
+    public <T> void put(String key, long startedGeneration, List<T> rows, Function<T, Long> idOf,
+                        long total, boolean estimated) {
+        if (!enabled || startedGeneration != generation.get()) {
+            return;
+        }
+        long[] ids = new long[rows.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = idOf.apply(rows.get(i));
+        }
+        results.put(key, new CachedResult(startedGeneration, ids, total, estimated));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        generation.incrementAndGet();
+        results.invalidateAll();
+    }
+
+    public CacheStatsDto stats() {
+        CacheStats stats = results.stats();
+        long weightedSize = results.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+        return new CacheStatsDto("search-result", results.estimatedSize(), weightedSize, maximumWeight,
+                stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount());
+    }
+
+    // ========== 캐시 키 ==========
+
+    /**
+     * 정규화한 검색 조건 키 (validateAndCorrect 이후 호출)
+     * 결과가 같은 조건은 같은 키 - 키워드 소문자, 검색 타입 기본값, 카테고리 id 정렬, 정렬 방향 대문자, 보정된 페이지/크기
+     */
+    public static String keyOf(SearchConditionDto condition) {
+        List<Long> categoryIds = new ArrayList<>(condition.getCategoryIds());
+        categoryIds.sort(null);
+        String keyword = condition.hasKeyword() ? condition.getKeyword().trim().toLowerCase(Locale.ROOT) : "";
+        return String.join("|",
+                keyword,
+                condition.getSearchType(),
+                categoryIds.toString(),
+                condition.hasStatusFilter() ? condition.getStatus() : "",
+                condition.hasAuthorFilter() ? condition.getAuthorName() : "",
+                String.valueOf(condition.getIsNotice()),
+                String.valueOf(condition.getStartDate()),
+                String.valueOf(condition.getEndDate()),
+                condition.getSortBy(),
+                condition.getSortDirection(),
+                String.valueOf(condition.getPage()),
+                String.valueOf(condition.getSize()));
+    }
+
+    /**
+     * 한 페이지 분량의 검색 결과 (게시글 id는 화면 순서대로)
+     */
+    public record CachedResult(long generation, long[] ids, long total, boolean estimated) {
+
+        public List<Long> idList() {
+            List<Long> list = new ArrayList<>(ids.length);
+            for (long id : ids) {
+                list.add(id);
+            }
+            return list;
+        }
+
+        int weight(String key) {
+            return ENTRY_OVERHEAD_BYTES + key.length() * 2 + ids.length * Long.BYTES;
+        }
+    }
+}
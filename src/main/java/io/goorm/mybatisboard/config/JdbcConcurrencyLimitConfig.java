@@ -0,0 +1,41 @@
+package io.goorm.mybatisboard.config;
+
+import io.goorm.mybatisboard.datasource.ConcurrencyLimitingDataSource;
+import io.goorm.mybatisboard.datasource.JdbcConcurrencyLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * JDBC 동시 사용 제한 (vthreads 프로필에서 활성화)
+ * 애플리케이션 DataSource를 ConcurrencyLimitingDataSource로 감싸 풀 크기 이상의 동시 요청을 세마포어에서 대기시킴
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.jdbc.concurrency-limit.enabled", havingValue = "true")
+public class JdbcConcurrencyLimitConfig {
+
+    @Bean
+    public JdbcConcurrencyLimiter jdbcConcurrencyLimiter(
+            @Value("${board.jdbc.concurrency-limit.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrency,
+            @Value("${board.jdbc.concurrency-limit.acquire-timeout-ms:30000}") long acquireTimeoutMillis) {
+        return new JdbcConcurrencyLimiter(maxConcurrency, acquireTimeoutMillis);
+    }
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(ObjectProvider<JdbcConcurrencyLimiter> limiter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitingDataSource)) {
+                    return new ConcurrencyLimitingDataSource(dataSource, limiter.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
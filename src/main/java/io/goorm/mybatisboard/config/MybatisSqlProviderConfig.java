@@ -0,0 +1,21 @@
+package io.goorm.mybatisboard.config;
+
+import io.goorm.mybatisboard.mapper.provider.PostSearchSqlProvider;
+import org.mybatis.spring.boot.autoconfigure.ConfigurationCustomizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 검색 SQL Provider 설정
+ * XML의 ${listSnippetLength}와 같은 값을 Provider에 전달 (매퍼 등록 전에 실행)
+ */
+@Configuration
+public class MybatisSqlProviderConfig {
+
+    @Bean
+    public ConfigurationCustomizer searchSqlProviderCustomizer(
+            @Value("${mybatis.configuration-properties.listSnippetLength:0}") int listSnippetLength) {
+        return configuration -> PostSearchSqlProvider.configure(listSnippetLength);
+    }
+}
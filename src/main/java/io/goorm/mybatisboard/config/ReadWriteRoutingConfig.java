@@ -0,0 +1,135 @@
+package io.goorm.mybatisboard.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.goorm.mybatisboard.datasource.DataSourceRouter;
+import io.goorm.mybatisboard.datasource.ReadWriteRoutingDataSource;
+import io.goorm.mybatisboard.datasource.ReadYourWritesFilter;
+import io.goorm.mybatisboard.datasource.ReplicaDataSource;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 (replicas 프로필에서 활성화)
+ * 주 DB(spring.datasource)와 복제본(board.datasource.routing.replicas)마다 Hikari 풀을 만들고
+ * 애플리케이션 DataSource는 LazyConnectionDataSourceProxy → ReadWriteRoutingDataSource 순으로 구성
+ * JDBC 동시 사용 제한이 켜져 있으면 그 바깥을 ConcurrencyLimitingDataSource가 감쌈 (전체 풀 합산 한도)
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.datasource.routing.enabled", havingValue = "true")
+@Slf4j
+public class ReadWriteRoutingConfig {
+
+    private final ObjectProvider<DataSourceRouter> router;
+
+    public ReadWriteRoutingConfig(ObjectProvider<DataSourceRouter> router) {
+        this.router = router;
+    }
+
+    @Bean
+    public DataSourceRouter dataSourceRouter(DataSourceProperties properties, Environment environment,
+                                             @Value("${board.datasource.routing.balance:least-in-flight}") String balance,
+                                             @Value("${board.datasource.routing.migrate-replicas:false}") boolean migrateReplicas) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (!StringUtils.hasText(primary.getPoolName())) {
+            primary.setPoolName(DataSourceRouter.PRIMARY);
+        }
+
+        List<ReplicaProperties> replicaProperties = binder
+                .bind("board.datasource.routing.replicas", Bindable.listOf(ReplicaProperties.class))
+                .orElse(List.of());
+        List<ReplicaDataSource> replicas = new ArrayList<>(replicaProperties.size());
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            String name = "replica-" + i;
+            HikariDataSource pool = replicaPool(name, replicaProperties.get(i), primary);
+            if (migrateReplicas) {
+                migrate(pool, environment);
+            }
+            replicas.add(new ReplicaDataSource(name, pool));
+        }
+
+        log.info("Read/write routing: primary {} + {} replica(s), balance={}",
+                primary.getJdbcUrl(), replicas.size(), balance);
+        return new DataSourceRouter(primary, replicas, DataSourceRouter.Balance.from(balance));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceRouter dataSourceRouter) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(dataSourceRouter));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${board.datasource.routing.read-your-writes-ms:5000}") long windowMillis) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(windowMillis));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);  // 목록 캐시 필터보다 먼저
+        return registration;
+    }
+
+    @Scheduled(fixedDelayString = "${board.datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        router.getObject().checkReplicas();
+    }
+
+    private HikariDataSource replicaPool(String name, ReplicaProperties replica, HikariDataSource primary) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(replica.getUrl());
+        pool.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.getUsername());
+        pool.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.getPassword());
+        pool.setDriverClassName(StringUtils.hasText(replica.getDriverClassName())
+                ? replica.getDriverClassName() : primary.getDriverClassName());
+        pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+        pool.setConnectionTimeout(replica.getConnectionTimeoutMs());
+        return pool;
+    }
+
+    /**
+     * 로컬 확인용 - 복제가 없는 복제본 DB에 주 DB와 같은 스키마 적용
+     */
+    private void migrate(DataSource replica, Environment environment) {
+        String[] locations = StringUtils.commaDelimitedListToStringArray(
+                environment.getProperty("spring.flyway.locations", "classpath:db/migration"));
+        Flyway.configure()
+                .dataSource(replica)
+                .locations(locations)
+                .baselineOnMigrate(true)
+                .load()
+                .migrate();
+    }
+
+    @Getter
+    @Setter
+    public static class ReplicaProperties {
+        private String url;
+        private String username;            // 비어있으면 주 DB와 동일
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+        private long connectionTimeoutMs = 2000;   // 장애 시 오래 기다리지 않고 주 DB로 대체
+    }
+}
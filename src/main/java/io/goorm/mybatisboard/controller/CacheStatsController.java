@@ -0,0 +1,27 @@
+package io.goorm.mybatisboard.controller;
+
+import io.goorm.mybatisboard.cache.CaffeineMapperCache;
+import io.goorm.mybatisboard.cache.SearchResultCache;
+import io.goorm.mybatisboard.dto.CacheStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/cache-stats")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final SearchResultCache searchResultCache;
+
+    // 매퍼 네임스페이스별 2차 캐시 + 검색 결과 캐시 적중/실패/제거 통계
+    @GetMapping
+    public List<CacheStatsDto> stats() {
+        List<CacheStatsDto> stats = CaffeineMapperCache.allStats();
+        stats.add(searchResultCache.stats());
+        return stats;
+    }
+}
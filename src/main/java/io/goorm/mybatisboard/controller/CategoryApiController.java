@@ -0,0 +1,37 @@
+package io.goorm.mybatisboard.controller;
+
+import io.goorm.mybatisboard.dto.CategoryDto;
+import io.goorm.mybatisboard.dto.CategorySearchConditionDto;
+import io.goorm.mybatisboard.dto.PageDto;
+import io.goorm.mybatisboard.service.CategoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 카테고리 JSON API
+ */
+@RestController
+@RequestMapping("/api/categories")
+@RequiredArgsConstructor
+public class CategoryApiController {
+
+    private final CategoryService categoryService;
+
+    // 카테고리 목록 (검색 + 정렬 + 페이징) - 조건이 없으면 기본 목록
+    @GetMapping
+    public PageDto<CategoryDto> list(CategorySearchConditionDto condition) {
+        return condition.isEmpty()
+                ? categoryService.findAll(condition.getPage(), condition.getSize())
+                : categoryService.findAllWithConditions(condition);
+    }
+
+    // 활성 카테고리 (캐시)
+    @GetMapping("/active")
+    public List<CategoryDto> active() {
+        return categoryService.getActiveCategories();
+    }
+}
@@ -0,0 +1,32 @@
+package io.goorm.mybatisboard.controller;
+
+import io.goorm.mybatisboard.dto.CategoryPostCountDto;
+import io.goorm.mybatisboard.dto.CategoryStatsReconcileResultDto;
+import io.goorm.mybatisboard.service.CategoryPostStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/category-stats")
+@RequiredArgsConstructor
+public class CategoryStatsController {
+
+    private final CategoryPostStatsService categoryPostStatsService;
+
+    // 카테고리/상태별 게시글 수 요약
+    @GetMapping
+    public List<CategoryPostCountDto> stats() {
+        return categoryPostStatsService.findAll();
+    }
+
+    // 실제 게시글 수와 즉시 대조/보정
+    @PostMapping("/reconcile")
+    public CategoryStatsReconcileResultDto reconcile() {
+        return categoryPostStatsService.reconcile();
+    }
+}
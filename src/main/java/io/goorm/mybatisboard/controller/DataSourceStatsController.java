@@ -0,0 +1,26 @@
+package io.goorm.mybatisboard.controller;
+
+import io.goorm.mybatisboard.datasource.DataSourceRouter;
+import io.goorm.mybatisboard.dto.DataSourceRouteStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/datasource-stats")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.datasource.routing.enabled", havingValue = "true")
+public class DataSourceStatsController {
+
+    private final DataSourceRouter dataSourceRouter;
+
+    // 주 DB/복제본별 라우팅 수, 사용 중 커넥션, 상태
+    @GetMapping
+    public List<DataSourceRouteStatsDto> stats() {
+        return dataSourceRouter.stats();
+    }
+}
@@ -0,0 +1,24 @@
+package io.goorm.mybatisboard.controller;
+
+import io.goorm.mybatisboard.datasource.JdbcConcurrencyLimiter;
+import io.goorm.mybatisboard.dto.JdbcLimiterStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/jdbc-stats")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.jdbc.concurrency-limit.enabled", havingValue = "true")
+public class JdbcStatsController {
+
+    private final JdbcConcurrencyLimiter jdbcConcurrencyLimiter;
+
+    // 커넥션 대기열 상태와 대기시간 분포
+    @GetMapping
+    public JdbcLimiterStatsDto stats() {
+        return jdbcConcurrencyLimiter.stats();
+    }
+}
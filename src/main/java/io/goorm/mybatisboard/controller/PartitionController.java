@@ -0,0 +1,33 @@
+package io.goorm.mybatisboard.controller;
+
+import io.goorm.mybatisboard.dto.PostPartitionDto;
+import io.goorm.mybatisboard.service.PostPartitionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/partitions")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.partition.enabled", havingValue = "true")
+public class PartitionController {
+
+    private final PostPartitionService postPartitionService;
+
+    // 게시글 월 파티션 목록과 행 수
+    @GetMapping
+    public List<PostPartitionDto> partitions() {
+        return postPartitionService.findPartitions();
+    }
+
+    // 즉시 롤링 (앞으로의 월 파티션 추가, 보존 기간이 지난 파티션 삭제)
+    @PostMapping("/roll")
+    public List<PostPartitionDto> roll() {
+        return postPartitionService.roll();
+    }
+}
@@ -0,0 +1,63 @@
+package io.goorm.mybatisboard.controller;
+
+import io.goorm.mybatisboard.dto.PageDto;
+import io.goorm.mybatisboard.dto.PostDetailDto;
+import io.goorm.mybatisboard.dto.PostWithDetailsDto;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.service.PostExportService;
+import io.goorm.mybatisboard.service.PostService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 게시글 JSON API
+ * - /api/posts: 페이지 단위 (SearchConditionDto, cursor 파라미터가 있으면 키셋 페이지네이션)
+ * - /api/posts/stream: 조건에 맞는 전체 행을 Cursor에서 읽는 대로 NDJSON 또는 SSE로 스트리밍
+ */
+@RestController
+@RequestMapping("/api/posts")
+@RequiredArgsConstructor
+@Slf4j
+public class PostApiController {
+
+    private final PostService postService;
+    private final PostExportService postExportService;
+
+    @GetMapping
+    public PageDto<PostWithDetailsDto> list(SearchConditionDto condition) {
+        log.debug("API post list with conditions: {}", condition.getSummary());
+        return condition.isCursorMode()
+                ? postService.findAllWithConditionsByCursor(condition)
+                : postService.findAllWithConditions(condition);
+    }
+
+    // Accept: text/event-stream (EventSource)이면 SSE, 그 외에는 NDJSON
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> stream(SearchConditionDto condition,
+                                                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        boolean sse = accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+        String format = sse ? PostExportService.FORMAT_SSE : PostExportService.FORMAT_NDJSON;
+        log.info("API post stream ({}) with conditions: {}", format, condition.getSummary());
+
+        StreamingResponseBody body = out -> postExportService.export(condition, format, out);
+        return ResponseEntity.ok()
+                .contentType(sse ? MediaType.TEXT_EVENT_STREAM : MediaType.APPLICATION_NDJSON)
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+
+    @GetMapping("/{seq}")
+    public PostDetailDto show(@PathVariable Long seq) {
+        return postService.findBySeq(seq);
+    }
+}
@@ -38,14 +38,19 @@ public class PostController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String searchType,
             @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String direction,
             Model model) {
-        log.info("Accessing posts list page with page={}, size={}, searchType={}, keyword={}",
-                page, size, searchType, keyword);
+        log.info("Accessing posts list page with page={}, size={}, searchType={}, keyword={}, cursor={}",
+                page, size, searchType, keyword, cursor);
 
         PageDto<PostListDto> pageResult;
 
-        // 검색 조건이 있으면 검색, 없으면 전체 조회
-        if (keyword != null && !keyword.trim().isEmpty()) {
+        // 커서가 있으면 키셋 페이지네이션, 검색 조건이 있으면 검색, 없으면 전체 조회
+        if (cursor != null) {
+            pageResult = postService.findAllByCursor(cursor, direction, size, searchType, keyword);
+            log.debug("Found {} posts with cursor", pageResult.getContent().size());
+        } else if (keyword != null && !keyword.trim().isEmpty()) {
             pageResult = postService.findAll(page, size, searchType, keyword);
             log.debug("Found {} search results on page {}/{} for keyword: {}",
                     pageResult.getContent().size(), page, pageResult.getTotalPages(), keyword);
@@ -61,6 +66,8 @@ public class PostController {
         condition.setSize(size);
         condition.setSearchType(searchType);
         condition.setKeyword(keyword);
+        condition.setCursor(cursor);
+        condition.setDirection(direction);
 
         model.addAttribute("pageResult", pageResult);
         model.addAttribute("searchType", searchType);
@@ -75,7 +82,9 @@ public class PostController {
     public String searchWithConditions(SearchConditionDto condition, Model model) {
         log.info("Accessing integrated search with conditions: {}", condition.getSummary());
 
-        PageDto<PostWithDetailsDto> pageResult = postService.findAllWithConditions(condition);
+        PageDto<PostWithDetailsDto> pageResult = condition.isCursorMode()
+                ? postService.findAllWithConditionsByCursor(condition)
+                : postService.findAllWithConditions(condition);
         List<CategoryDto> categories = postService.findActiveCategories();
 
         log.debug("Found {} posts on page {}/{} with conditions",
@@ -0,0 +1,39 @@
+package io.goorm.mybatisboard.controller;
+
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.service.PostExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class PostExportController {
+
+    private final PostExportService postExportService;
+
+    // 게시글 내보내기 (ndjson 또는 csv) - SearchConditionDto의 필터 적용
+    @GetMapping("/posts/export")
+    public ResponseEntity<StreamingResponseBody> export(SearchConditionDto condition,
+                                                        @RequestParam(defaultValue = PostExportService.FORMAT_NDJSON) String format) {
+        log.info("Exporting posts as {} with conditions: {}", format, condition.getSummary());
+
+        boolean csv = PostExportService.FORMAT_CSV.equals(format);
+        StreamingResponseBody body = out -> postExportService.export(condition, format, out);
+
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+}
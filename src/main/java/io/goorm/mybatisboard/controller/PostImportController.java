@@ -0,0 +1,33 @@
+package io.goorm.mybatisboard.controller;
+
+import io.goorm.mybatisboard.dto.PostImportResultDto;
+import io.goorm.mybatisboard.service.PostImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class PostImportController {
+
+    private final PostImportService postImportService;
+
+    // 게시글 대량 적재 (Content-Type: application/x-ndjson 또는 text/csv)
+    @PostMapping(value = "/posts/import", consumes = {"application/x-ndjson", "text/csv"})
+    public PostImportResultDto importPosts(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                           @RequestParam(required = false) Integer batchSize,
+                                           InputStream body) throws IOException {
+        String format = contentType.startsWith("text/csv")
+                ? PostImportService.FORMAT_CSV : PostImportService.FORMAT_NDJSON;
+        log.info("Starting bulk import: format={}, batchSize={}", format, batchSize);
+        return postImportService.importPosts(body, format, batchSize);
+    }
+}
@@ -0,0 +1,41 @@
+package io.goorm.mybatisboard.controller;
+
+import io.goorm.mybatisboard.dto.PostModerationResultDto;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.service.PostModerationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/moderation/posts")
+@RequiredArgsConstructor
+@Slf4j
+public class PostModerationController {
+
+    private final PostModerationService postModerationService;
+
+    // id 목록 일괄 삭제 (소프트 삭제) - 본문: [1, 2, 3]
+    @PostMapping("/delete")
+    public PostModerationResultDto delete(@RequestBody List<Long> ids) {
+        log.info("Bulk soft delete requested for {} ids", ids.size());
+        return postModerationService.softDelete(ids);
+    }
+
+    // 검색 조건 일괄 삭제 (소프트 삭제) - SearchConditionDto의 필터 적용, 조건 없으면 거부
+    @PostMapping("/delete-matching")
+    public PostModerationResultDto deleteMatching(SearchConditionDto condition) {
+        return postModerationService.softDelete(condition);
+    }
+
+    // 보존 기간이 지난 소프트 삭제 게시글 즉시 영구 삭제
+    @PostMapping("/purge")
+    public PostModerationResultDto purge() {
+        return postModerationService.purge();
+    }
+}
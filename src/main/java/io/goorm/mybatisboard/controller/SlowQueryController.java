@@ -0,0 +1,31 @@
+package io.goorm.mybatisboard.controller;
+
+import io.goorm.mybatisboard.dto.SlowQueryDto;
+import io.goorm.mybatisboard.plugin.SlowQueryAnalyzer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/slow-queries")
+@RequiredArgsConstructor
+public class SlowQueryController {
+
+    private final SlowQueryAnalyzer slowQueryAnalyzer;
+
+    // 최근 느린 조회 구문과 실행 계획 (최신순)
+    @GetMapping
+    public List<SlowQueryDto> recent() {
+        return slowQueryAnalyzer.recent();
+    }
+
+    // 기록 비우기 - 비우기 전 기록 반환
+    @PostMapping("/clear")
+    public List<SlowQueryDto> clear() {
+        return slowQueryAnalyzer.clear();
+    }
+}
@@ -0,0 +1,31 @@
+package io.goorm.mybatisboard.controller;
+
+import io.goorm.mybatisboard.dto.StatementStatsDto;
+import io.goorm.mybatisboard.plugin.StatementStatsRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/sql-stats")
+@RequiredArgsConstructor
+public class SqlStatsController {
+
+    private final StatementStatsRegistry statementStatsRegistry;
+
+    // 현재 구간의 매핑 구문별 지연시간 통계
+    @GetMapping
+    public List<StatementStatsDto> stats() {
+        return statementStatsRegistry.snapshot();
+    }
+
+    // 새 구간 시작 - 직전 구간 통계 반환
+    @PostMapping("/reset")
+    public List<StatementStatsDto> reset() {
+        return statementStatsRegistry.reset();
+    }
+}
@@ -0,0 +1,35 @@
+package io.goorm.mybatisboard.controller;
+
+import io.goorm.mybatisboard.dto.SuggestionDto;
+import io.goorm.mybatisboard.search.SuggestIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 검색어 자동완성 JSON API - 인메모리 색인만 조회 (DB 미사용)
+ */
+@RestController
+@RequestMapping("/api/suggest")
+@RequiredArgsConstructor
+public class SuggestApiController {
+
+    private final SuggestIndex suggestIndex;
+
+    // 접두어 자동완성 (type: title, author, 생략 시 둘 다)
+    @GetMapping
+    public ResponseEntity<List<SuggestionDto>> suggest(@RequestParam(name = "q", defaultValue = "") String query,
+                                                       @RequestParam(required = false) String type,
+                                                       @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(30)).cachePrivate())
+                .body(suggestIndex.suggest(query, type, limit));
+    }
+}
@@ -0,0 +1,68 @@
+package io.goorm.mybatisboard.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션을 빌리기 전에 JdbcConcurrencyLimiter 허가를 얻고, close() 시 반납하는 DataSource
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    private final JdbcConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitingDataSource(DataSource targetDataSource, JdbcConcurrencyLimiter limiter) {
+        super(targetDataSource);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        limiter.acquire();
+        try {
+            return releasing(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        limiter.acquire();
+        try {
+            return releasing(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+    }
+
+    /**
+     * close()를 처음 호출할 때 한 번만 허가를 반납하는 커넥션 프록시
+     */
+    private Connection releasing(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                        try {
+                            target.close();
+                        } finally {
+                            limiter.release();
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
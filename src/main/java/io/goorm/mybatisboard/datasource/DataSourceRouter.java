@@ -0,0 +1,127 @@
+package io.goorm.mybatisboard.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.goorm.mybatisboard.dto.DataSourceRouteStatsDto;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 주 DB 1개 + 읽기 복제본 N개 커넥션 풀 보관 및 복제본 선택
+ * - round-robin: 건강한 복제본을 차례대로
+ * - least-in-flight: 사용 중인 커넥션이 가장 적은 복제본 (같으면 차례대로)
+ * 건강한 복제본이 없으면 null → 주 DB로 읽음
+ */
+@Slf4j
+public class DataSourceRouter implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    public enum Balance {
+        ROUND_ROBIN, LEAST_IN_FLIGHT;
+
+        public static Balance from(String value) {
+            return "round-robin".equalsIgnoreCase(value) ? ROUND_ROBIN : LEAST_IN_FLIGHT;
+        }
+    }
+
+    private final HikariDataSource primary;
+    private final List<ReplicaDataSource> replicas;
+    private final Balance balance;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder primaryRouted = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public DataSourceRouter(HikariDataSource primary, List<ReplicaDataSource> replicas, Balance balance) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.balance = balance;
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    public List<ReplicaDataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션에 사용할 복제본 선택
+     */
+    public ReplicaDataSource selectReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        ReplicaDataSource selected = null;
+        for (int i = 0; i < size; i++) {
+            ReplicaDataSource candidate = replicas.get((start + i) % size);
+            if (!candidate.isHealthy()) {
+                continue;
+            }
+            if (balance == Balance.ROUND_ROBIN) {
+                return candidate;
+            }
+            if (selected == null || candidate.getInFlight() < selected.getInFlight()) {
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+
+    public void routedToPrimary() {
+        primaryRouted.increment();
+    }
+
+    /**
+     * 복제본 커넥션 획득 실패 - 이번 요청은 주 DB로 대체
+     */
+    public void failedOver(ReplicaDataSource replica, SQLException cause) {
+        fallbacks.increment();
+        log.warn("Replica {} unavailable, falling back to primary: {}", replica.getName(), cause.getMessage());
+    }
+
+    /**
+     * 복제본 상태 점검 - 비정상으로 표시된 복제본은 점검에 성공하면 다시 읽기 대상에 포함
+     */
+    public void checkReplicas() {
+        for (ReplicaDataSource replica : replicas) {
+            boolean wasHealthy = replica.isHealthy();
+            boolean healthy = replica.check();
+            if (wasHealthy != healthy) {
+                log.info("Replica {} is now {}", replica.getName(), healthy ? "healthy" : "unhealthy");
+            }
+        }
+    }
+
+    public List<DataSourceRouteStatsDto> stats() {
+        List<DataSourceRouteStatsDto> stats = new ArrayList<>(replicas.size() + 1);
+        HikariPoolMXBean pool = primary.getHikariPoolMXBean();
+        stats.add(new DataSourceRouteStatsDto(PRIMARY, true, true,
+                pool != null ? pool.getActiveConnections() : 0,
+                primaryRouted.sum(), 0, fallbacks.sum(), null));
+        for (ReplicaDataSource replica : replicas) {
+            stats.add(new DataSourceRouteStatsDto(replica.getName(), false, replica.isHealthy(),
+                    replica.getInFlight(), replica.getBorrowed(), replica.getFailures(), 0, replica.getLastError()));
+        }
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        for (ReplicaDataSource replica : replicas) {
+            if (replica.getTargetDataSource() instanceof HikariDataSource pool) {
+                pool.close();
+            }
+        }
+        primary.close();
+    }
+}
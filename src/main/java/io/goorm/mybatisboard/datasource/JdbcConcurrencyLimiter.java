@@ -0,0 +1,81 @@
+package io.goorm.mybatisboard.datasource;
+
+import io.goorm.mybatisboard.dto.JdbcLimiterStatsDto;
+import io.goorm.mybatisboard.plugin.LatencyHistogram;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커넥션 풀 앞단의 공정(fair) 세마포어
+ * 가상 스레드는 수에 제한이 없으므로 풀 크기만큼만 커넥션을 요청하게 하고 나머지는 도착 순서대로 대기
+ * 대기 시간은 히스토그램으로 기록
+ */
+public class JdbcConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long acquireTimeoutMillis;
+
+    private final LatencyHistogram waitHistogram = new LatencyHistogram();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalWaitMicros = new LongAdder();
+
+    public JdbcConcurrencyLimiter(int maxConcurrency, long acquireTimeoutMillis) {
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    /**
+     * 허가 획득 - 제한 시간 안에 얻지 못하면 SQLTransientConnectionException
+     */
+    public void acquire() throws SQLException {
+        long started = System.nanoTime();
+        boolean granted;
+        try {
+            granted = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 연결 대기 중 인터럽트되었습니다.", e);
+        }
+        long waitedMicros = (System.nanoTime() - started) / 1_000;
+        waitHistogram.record(waitedMicros);
+        totalWaitMicros.add(waitedMicros);
+        if (!granted) {
+            timeouts.increment();
+            throw new SQLTransientConnectionException(
+                    "DB 연결 대기 시간을 초과했습니다. (" + acquireTimeoutMillis + "ms, 동시 사용 한도 " + maxConcurrency + ")");
+        }
+        acquired.increment();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 허가를 기다리는 스레드 수 (추정)
+     */
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    public JdbcLimiterStatsDto stats() {
+        long waits = acquired.sum() + timeouts.sum();
+        return new JdbcLimiterStatsDto(
+                maxConcurrency,
+                permits.availablePermits(),
+                permits.getQueueLength(),
+                acquired.sum(),
+                timeouts.sum(),
+                waits > 0 ? (double) totalWaitMicros.sum() / waits : 0,
+                waitHistogram.getValueAtPercentile(50),
+                waitHistogram.getValueAtPercentile(99),
+                waitHistogram.getMax());
+    }
+}
@@ -0,0 +1,76 @@
+package io.goorm.mybatisboard.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본, 그 외(쓰기 트랜잭션, 트랜잭션 밖, 자기 쓰기 읽기 고정)는 주 DB로 보내는 DataSource
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용
+ * (첫 SQL 실행 시 커넥션을 얻을 때 라우팅)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSourceRouter router;
+
+    public ReadWriteRoutingDataSource(DataSourceRouter router) {
+        this.router = router;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(DataSourceRouter.PRIMARY, router.getPrimary());
+        for (ReplicaDataSource replica : router.getReplicas()) {
+            targets.put(replica.getName(), replica);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(router.getPrimary());
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean transactional = TransactionSynchronizationManager.isActualTransactionActive();
+        if (transactional && TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReadYourWrites.isPinned()) {
+            ReplicaDataSource replica = router.selectReplica();
+            if (replica != null) {
+                return replica.getName();
+            }
+        } else if (transactional && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteAfterCommit();
+        }
+        router.routedToPrimary();
+        return DataSourceRouter.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target instanceof ReplicaDataSource replica) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                router.failedOver(replica, e);
+                return router.getPrimary().getConnection();
+            }
+        }
+        return target.getConnection();
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 자기 쓰기 읽기 창 시작
+     */
+    private void recordWriteAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ReadYourWrites.recordWrite();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.goorm.mybatisboard.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.function.Supplier;
+
+/**
+ * 자기 쓰기 읽기(read-your-writes) 보장
+ * 쓰기 트랜잭션이 커밋되면 세션에 시각을 남기고, 그 뒤 일정 시간 동안 같은 사용자의 읽기는 주 DB로 보냄 (복제 지연 회피)
+ * 고정 여부는 요청 스레드에 보관 - ReadYourWritesFilter가 요청 시작 시 설정
+ */
+public final class ReadYourWrites {
+
+    public static final String LAST_WRITE_ATTRIBUTE = ReadYourWrites.class.getName() + ".LAST_WRITE_AT";
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * 현재 스레드의 읽기를 주 DB로 고정해야 하는지
+     */
+    public static boolean isPinned() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    static void clear() {
+        PINNED.remove();
+    }
+
+    /**
+     * 쓰기 커밋 직후 호출 - 이 요청의 남은 읽기와 세션의 이후 요청을 주 DB로 고정
+     */
+    static void recordWrite() {
+        pin();
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            request.getSession().setAttribute(LAST_WRITE_ATTRIBUTE, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 다른 스레드에서 실행할 조회에 현재 고정 여부를 전달 (실행 후 원래 값 복원)
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> supplier) {
+        boolean pinned = isPinned();
+        return () -> {
+            Boolean previous = PINNED.get();
+            PINNED.set(pinned);
+            try {
+                return supplier.get();
+            } finally {
+                if (previous == null) {
+                    PINNED.remove();
+                } else {
+                    PINNED.set(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package io.goorm.mybatisboard.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 세션의 마지막 쓰기 시각이 창(window) 안이면 이 요청의 읽기를 주 DB로 고정
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HttpSession session = request.getSession(false);
+        if (session != null && session.getAttribute(ReadYourWrites.LAST_WRITE_ATTRIBUTE) instanceof Long lastWriteAt
+                && System.currentTimeMillis() - lastWriteAt < windowMillis) {
+            ReadYourWrites.pin();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.goorm.mybatisboard.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 복제본 커넥션 풀
+ * 사용 중인 커넥션 수(in-flight)와 상태를 추적 - 커넥션 획득에 실패하면 비정상으로 표시하고 상태 점검에서 복구
+ */
+public class ReplicaDataSource extends DelegatingDataSource {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final String name;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder borrowed = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile boolean healthy = true;
+    private volatile String lastError;
+
+    public ReplicaDataSource(String name, DataSource targetDataSource) {
+        super(targetDataSource);
+        this.name = name;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection;
+        try {
+            connection = obtainTargetDataSource().getConnection();
+        } catch (SQLException | RuntimeException e) {
+            markDown(e);
+            throw e;
+        }
+        inFlight.incrementAndGet();
+        borrowed.increment();
+        return tracking(connection);
+    }
+
+    /**
+     * 상태 점검 - 커넥션을 빌려 isValid()로 확인
+     */
+    public boolean check() {
+        try (Connection connection = obtainTargetDataSource().getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                markDown(new SQLException("isValid() 검사에 실패했습니다."));
+                return false;
+            }
+            healthy = true;
+            return true;
+        } catch (SQLException | RuntimeException e) {
+            markDown(e);
+            return false;
+        }
+    }
+
+    public void markDown(Exception cause) {
+        healthy = false;
+        failures.increment();
+        lastError = cause.getMessage();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getBorrowed() {
+        return borrowed.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    /**
+     * close()를 처음 호출할 때 한 번만 in-flight 수를 줄이는 커넥션 프록시
+     */
+    private Connection tracking(Connection target) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        try {
+                            target.close();
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -56,6 +56,18 @@ public abstract class BaseSearchConditionDto {
         return "created_at".equals(sortBy) && "DESC".equals(sortDirection);
     }
     
+    /**
+     * 정렬 방향 대소문자 정규화 (asc → ASC)
+     * 알 수 없는 값은 그대로 두어 도메인별 기본 정렬을 따름
+     */
+    public void normalizeSortDirection() {
+        if ("ASC".equalsIgnoreCase(sortDirection)) {
+            sortDirection = "ASC";
+        } else if ("DESC".equalsIgnoreCase(sortDirection)) {
+            sortDirection = "DESC";
+        }
+    }
+    
     /**
      * 각 하위 클래스에서 구현해야 하는 비어있음 체크
      * 각 도메인별로 고유한 검색 조건들을 확인
@@ -0,0 +1,20 @@
+package io.goorm.mybatisboard.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class CacheStatsDto {
+    
+    private String namespace;       // 매퍼 네임스페이스
+    private long entries;           // 항목 수 (추정)
+    private long weightedSize;      // 직렬화 크기 합계 (바이트)
+    private long maximumWeight;     // 최대 크기 (바이트)
+    private long hits;              // 적중 수
+    private long misses;            // 실패 수
+    private double hitRate;         // 적중률
+    private long evictions;         // 크기/만료로 제거된 수
+}
@@ -5,13 +5,14 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class CategoryDto {
+public class CategoryDto implements Serializable {
     private Long id;
     private String name;
     private String description;
@@ -19,6 +20,8 @@ public class CategoryDto {
     private Boolean isActive;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long postCount;         // 게시글 수 (category_post_stats 요약)
+    private Long publishedCount;    // 게시된(PUBLISHED) 게시글 수
     
     // UI 표시용 메서드
     public String getDisplayName() {
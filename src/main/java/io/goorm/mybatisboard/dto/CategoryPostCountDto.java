@@ -0,0 +1,15 @@
+package io.goorm.mybatisboard.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class CategoryPostCountDto {
+    
+    private Long categoryId;        // 카테고리 ID
+    private String status;          // 게시글 상태 (PUBLISHED, DRAFT, DELETED)
+    private long postCount;         // 게시글 수
+}
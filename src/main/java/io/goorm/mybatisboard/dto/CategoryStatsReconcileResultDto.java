@@ -0,0 +1,17 @@
+package io.goorm.mybatisboard.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class CategoryStatsReconcileResultDto {
+    
+    private int categories;         // 대조한 카테고리 수
+    private int rescanned;          // 요약과 달라 잠금 후 다시 센 카테고리 수
+    private int repaired;           // 보정한 (카테고리, 상태) 행 수
+    private long drift;             // 보정 전후 게시글 수 차이 합계 (절댓값)
+    private long elapsedMillis;     // 소요 시간
+}
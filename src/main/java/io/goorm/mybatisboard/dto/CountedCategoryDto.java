@@ -0,0 +1,14 @@
+package io.goorm.mybatisboard.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 카테고리 검색 결과 + 전체 개수 (단일 조회 모드)
+ */
+@Getter
+@Setter
+public class CountedCategoryDto extends CategoryDto implements WindowCounted {
+
+    private Long totalCount;
+}
@@ -0,0 +1,20 @@
+package io.goorm.mybatisboard.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class DataSourceRouteStatsDto {
+    
+    private String name;            // 풀 이름 (primary, replica-N)
+    private boolean primary;        // 주 DB 여부
+    private boolean healthy;        // 상태 (복제본만 점검, 주 DB는 항상 true)
+    private int inFlight;           // 사용 중인 커넥션 수
+    private long routed;            // 이 풀로 보낸 커넥션 요청 수
+    private long failures;          // 커넥션 획득/점검 실패 수 (복제본)
+    private long fallbacks;         // 복제본 장애로 주 DB에서 대신 읽은 수 (주 DB)
+    private String lastError;       // 마지막 실패 사유
+}
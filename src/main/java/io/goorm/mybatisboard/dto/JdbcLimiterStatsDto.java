@@ -0,0 +1,21 @@
+package io.goorm.mybatisboard.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class JdbcLimiterStatsDto {
+    
+    private int maxConcurrency;     // 동시 커넥션 사용 한도
+    private int available;          // 남은 허가 수
+    private int queued;             // 대기 중인 스레드 수 (추정)
+    private long acquired;          // 허가 획득 수
+    private long timeouts;          // 대기 시간 초과 수
+    private double meanWaitMicros;  // 평균 대기시간 (µs)
+    private long p50WaitMicros;     // 대기시간 중앙값 (µs)
+    private long p99WaitMicros;     // 대기시간 99 백분위 (µs)
+    private long maxWaitMicros;     // 최대 대기시간 (µs)
+}
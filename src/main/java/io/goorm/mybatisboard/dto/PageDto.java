@@ -16,14 +16,18 @@ public class PageDto<T> {
     private int size;               // 페이지당 데이터 수
     private long totalElements;     // 전체 데이터 수
     private int totalPages;         // 전체 페이지 수
+    private String nextCursor;      // 다음 페이지 커서 (키셋 모드)
+    private String previousCursor;  // 이전 페이지 커서 (키셋 모드)
+    private boolean cursorMode;     // 키셋 페이지네이션 여부
+    private boolean totalEstimated; // 전체 수가 상한값으로 잘린 추정치인지 여부 (예: 10,000+)
     
-    // 계산된 속성들
+    // 계산된 속성들 (추정치 모드에서 상한 이후 페이지는 현재 페이지가 가득 찼을 때만 다음이 있다고 봄)
     public boolean hasNext() {
-        return currentPage < totalPages;
+        return cursorMode ? nextCursor != null : currentPage < totalPages || (totalEstimated && fullPage());
     }
     
     public boolean hasPrevious() {
-        return currentPage > 1;
+        return cursorMode ? previousCursor != null : currentPage > 1;
     }
     
     public boolean isFirst() {
@@ -31,7 +35,16 @@ public class PageDto<T> {
     }
     
     public boolean isLast() {
-        return currentPage == totalPages;
+        return currentPage >= totalPages && !(totalEstimated && fullPage());
+    }
+    
+    private boolean fullPage() {
+        return content != null && content.size() >= size;
+    }
+    
+    // 화면 표시용 전체 수 (추정치는 "10,000+" 형태)
+    public String getTotalLabel() {
+        return String.format("%,d", totalElements) + (totalEstimated ? "+" : "");
     }
     
     public int getStartPage() {
@@ -46,7 +59,20 @@ public class PageDto<T> {
     
     // 정적 팩토리 메서드
     public static <T> PageDto<T> of(List<T> content, int currentPage, int size, long totalElements) {
+        return of(content, currentPage, size, totalElements, false);
+    }
+    
+    // 추정 개수용 팩토리 메서드 (상한을 넘으면 데이터가 있는 현재 페이지까지 탐색 가능, 빈 페이지로는 넓히지 않음)
+    public static <T> PageDto<T> of(List<T> content, int currentPage, int size, long totalElements, boolean totalEstimated) {
         int totalPages = (int) Math.ceil((double) totalElements / size);
-        return new PageDto<>(content, currentPage, size, totalElements, totalPages);
+        if (totalEstimated && content != null && !content.isEmpty()) {
+            totalPages = Math.max(totalPages, currentPage);
+        }
+        return new PageDto<>(content, currentPage, size, totalElements, totalPages, null, null, false, totalEstimated);
+    }
+    
+    // 키셋 페이지네이션용 팩토리 메서드 (전체 개수를 세지 않음)
+    public static <T> PageDto<T> ofCursor(List<T> content, int size, String nextCursor, String previousCursor) {
+        return new PageDto<>(content, 0, size, 0, 0, nextCursor, previousCursor, true, false);
     }
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+package io.goorm.mybatisboard.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션 커서
+ * 마지막으로 본 행의 (정렬값, id)를 불투명 토큰으로 인코딩하여 OFFSET 없이 다음/이전 페이지를 조회
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+
+    private static final String DELIMITER = "\n";
+
+    private final String sortBy;            // 정렬 기준 (created_at, title, view_count, author_name)
+    private final String sortDirection;     // 정렬 방향 (ASC, DESC)
+    private final String value;             // 기준 행의 정렬 컬럼 값 (문자열 표현)
+    private final Long id;                  // 기준 행의 PK (동일 정렬값 구분용)
+    private final boolean backward;         // 이전 페이지 방향 여부
+
+    // ========== 생성 ==========
+
+    /**
+     * 첫 페이지용 커서 (기준 행 없음)
+     */
+    public static PostCursor first(String sortBy, String sortDirection) {
+        return new PostCursor(normalizeSortBy(sortBy), normalizeDirection(sortDirection), null, null, false);
+    }
+
+    /**
+     * 토큰 디코딩 - 비어있거나 현재 정렬 조건과 맞지 않으면 첫 페이지 커서 반환
+     */
+    public static PostCursor decode(String token, String sortBy, String sortDirection, boolean backward) {
+        PostCursor first = first(sortBy, sortDirection);
+        if (token == null || token.trim().isEmpty()) {
+            return first;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER, 4);
+            if (parts.length != 4
+                    || !parts[0].equals(first.sortBy)
+                    || !parts[1].equals(first.sortDirection)) {
+                return first;
+            }
+            PostCursor cursor = new PostCursor(first.sortBy, first.sortDirection, parts[3], Long.parseLong(parts[2]), backward);
+            cursor.getSortValue();  // 타입 검증 (잘못된 값이면 예외)
+            return cursor;
+        } catch (RuntimeException e) {
+            return first;
+        }
+    }
+
+    /**
+     * 주어진 행을 기준으로 하는 토큰 (방향은 요청 파라미터 direction=next|prev로 전달)
+     */
+    public String tokenFor(Object sortValue, Long rowId) {
+        String raw = sortBy + DELIMITER + sortDirection + DELIMITER + rowId + DELIMITER
+                + (sortValue != null ? sortValue.toString() : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ========== MyBatis 바인딩용 ==========
+
+    /**
+     * 기준 행이 없는 첫 페이지 여부
+     */
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    /**
+     * 정렬 식 (화이트리스트 - ${} 치환에 사용)
+     * 정렬 컬럼은 모두 NOT NULL (V10) - 식으로 감싸지 않아야 (정렬 컬럼, id) 인덱스(V6)를 탐색
+     */
+    public String getSortColumn() {
+        switch (sortBy) {
+            case "title": return "p.title";
+            case "view_count": return "p.view_count";
+            case "author_name": return "p.author_name";
+            default: return "p.created_at";
+        }
+    }
+
+    /**
+     * 실제 조회 방향 - 이전 페이지는 역순으로 읽은 뒤 서비스에서 뒤집음
+     */
+    public String getOrderDirection() {
+        boolean descending = "DESC".equals(sortDirection);
+        return descending != backward ? "DESC" : "ASC";
+    }
+
+    /**
+     * 기준 행과의 비교 연산자
+     */
+    public String getOperator() {
+        return "DESC".equals(getOrderDirection()) ? "<" : ">";
+    }
+
+    /**
+     * 정렬 컬럼 타입에 맞춘 기준값 (정렬 컬럼이 NOT NULL이라 빈 값도 NULL 대신 0/빈 문자열로)
+     */
+    public Object getSortValue() {
+        boolean empty = value == null || value.isEmpty();
+        switch (sortBy) {
+            case "view_count": return empty ? 0L : Long.parseLong(value);
+            case "created_at": return empty ? null : LocalDateTime.parse(value);
+            default: return empty ? "" : value;
+        }
+    }
+
+    // ========== 정규화 ==========
+
+    private static String normalizeSortBy(String sortBy) {
+        if ("title".equals(sortBy) || "view_count".equals(sortBy) || "author_name".equals(sortBy)) {
+            return sortBy;
+        }
+        return "created_at";
+    }
+
+    private static String normalizeDirection(String sortDirection) {
+        return "ASC".equalsIgnoreCase(sortDirection) ? "ASC" : "DESC";
+    }
+}
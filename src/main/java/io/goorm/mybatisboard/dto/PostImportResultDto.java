@@ -0,0 +1,17 @@
+package io.goorm.mybatisboard.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class PostImportResultDto {
+    
+    private long imported;          // 저장된 게시글 수
+    private long skipped;           // 필수값 누락 등으로 건너뛴 행 수
+    private int chunks;             // 커밋 횟수
+    private long elapsedMillis;     // 소요 시간
+    private double rowsPerSecond;   // 초당 저장 행 수
+}
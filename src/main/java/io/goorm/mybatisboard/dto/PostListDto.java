@@ -2,6 +2,7 @@ package io.goorm.mybatisboard.dto;
 
 import lombok.*;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Getter
@@ -9,10 +10,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
-public class PostListDto {
+public class PostListDto implements Serializable {
     
     private Long id;
     private String title;
+    private String snippet;     // 본문 앞부분 요약 (목록에서는 content 전체를 읽지 않음)
     private LocalDateTime createdAt;
     private Long categoryId;
     private String categoryName;
@@ -0,0 +1,16 @@
+package io.goorm.mybatisboard.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class PostModerationResultDto {
+    
+    private String action;          // delete (소프트 삭제) | purge (영구 삭제)
+    private long affected;          // 처리한 게시글 수
+    private int chunks;             // 청크(트랜잭션) 수
+    private long elapsedMillis;     // 소요 시간
+}
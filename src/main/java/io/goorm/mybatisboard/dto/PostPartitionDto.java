@@ -0,0 +1,17 @@
+package io.goorm.mybatisboard.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class PostPartitionDto {
+    
+    private String name;            // 파티션 이름 (p_history, pYYYYMM, p_future)
+    private LocalDateTime lessThan; // 상한 (미포함, p_future는 null)
+    private long rows;              // 행 수 (통계 기반 추정)
+}
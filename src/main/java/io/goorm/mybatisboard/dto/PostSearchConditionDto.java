@@ -100,9 +100,8 @@ public class PostSearchConditionDto extends BaseSearchConditionDto {
         if (sortBy == null || sortBy.trim().isEmpty()) {
             sortBy = "created_at";
         }
-        if (!"ASC".equalsIgnoreCase(sortDirection) && !"DESC".equalsIgnoreCase(sortDirection)) {
-            sortDirection = "DESC";
-        }
+        // 정렬 방향은 대문자로 정규화 (캐시 키/SQL 모양/색인 정렬이 같은 값을 보도록)
+        sortDirection = "ASC".equalsIgnoreCase(sortDirection) ? "ASC" : "DESC";
     }
     
     /**
@@ -4,15 +4,17 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class PostWithDetailsDto {
+public class PostWithDetailsDto implements Serializable {
     private Long id;
     private String title;
     private String content;
+    private String snippet;
     private String author;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
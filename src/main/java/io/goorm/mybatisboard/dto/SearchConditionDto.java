@@ -4,13 +4,16 @@ import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
+import lombok.Setter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.ArrayList;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class SearchConditionDto {
@@ -30,7 +33,7 @@ public class SearchConditionDto {
     
     // ========== 정렬 옵션 ==========
     @Builder.Default
-    private String sortBy = "created_at";    // 정렬 기준 (created_at, title, view_count, author_name)
+    private String sortBy = "created_at";    // 정렬 기준 (created_at, title, view_count, author_name, relevance)
     @Builder.Default
     private String sortDirection = "DESC";   // 정렬 방향 (ASC, DESC)
     
@@ -40,6 +43,22 @@ public class SearchConditionDto {
     @Builder.Default
     private int size = 10;                  // 페이지 크기
     
+    // ========== 키셋 페이지네이션 ==========
+    private String cursor;                  // 불투명 커서 토큰 (null이면 OFFSET 페이징)
+    private String direction;               // 커서 이동 방향 (next, prev)
+    @Setter(AccessLevel.NONE)
+    private PostCursor keyset;              // 디코딩된 커서 (요청 바인딩 대상 아님)
+    
+    // ========== 추정 개수 ==========
+    @Setter(AccessLevel.NONE)
+    private int countLimit;                 // 상한 카운트 LIMIT (요청 바인딩 대상 아님)
+    
+    // ========== 일괄 처리 청크 ==========
+    @Setter(AccessLevel.NONE)
+    private long chunkAfterId;              // 청크 조회 시작 id, 미포함 (요청 바인딩 대상 아님)
+    @Setter(AccessLevel.NONE)
+    private int chunkLimit;                 // 청크 크기 (요청 바인딩 대상 아님)
+    
     // ========== 유틸리티 메서드 ==========
     
     /**
@@ -49,6 +68,43 @@ public class SearchConditionDto {
         return Math.max(0, (page - 1) * size);
     }
     
+    /**
+     * 키셋 페이지네이션 요청 여부 (빈 커서는 키셋 모드의 첫 페이지)
+     */
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+    
+    /**
+     * 커서 토큰을 현재 정렬 조건으로 디코딩 (validateAndCorrect 이후 호출)
+     */
+    public PostCursor resolveKeyset() {
+        keyset = PostCursor.decode(cursor, sortBy, sortDirection, "prev".equals(direction));
+        return keyset;
+    }
+    
+    /**
+     * 키셋 조회 LIMIT - 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+     */
+    public int getKeysetLimit() {
+        return size + 1;
+    }
+    
+    /**
+     * 상한 카운트 쿼리의 LIMIT 설정
+     */
+    public void applyCountLimit(int limit) {
+        this.countLimit = limit;
+    }
+    
+    /**
+     * id 순 청크 조회 범위 설정 (afterId 이후 limit건)
+     */
+    public void applyChunk(long afterId, int limit) {
+        this.chunkAfterId = afterId;
+        this.chunkLimit = limit;
+    }
+    
     /**
      * 키워드 검색 유효성 체크
      */
@@ -84,6 +140,20 @@ public class SearchConditionDto {
         return startDate != null || endDate != null;
     }
     
+    /**
+     * 작성일 하한 (포함) - 시작일 00:00
+     */
+    public LocalDateTime getCreatedFrom() {
+        return startDate != null ? startDate.atStartOfDay() : null;
+    }
+    
+    /**
+     * 작성일 상한 (미포함) - 종료일 다음 날 00:00
+     */
+    public LocalDateTime getCreatedBefore() {
+        return endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
+    }
+    
     /**
      * 전체 검색 조건이 비어있는지 체크
      */
@@ -114,13 +184,17 @@ public class SearchConditionDto {
         if (size < 1) size = 10;
         if (size > 100) size = 100;  // 최대 페이지 크기 제한
         
+        // 검색어 앞뒤 공백 제거 (공백만 다른 검색어는 같은 조건)
+        if (keyword != null) {
+            keyword = keyword.trim();
+        }
+        
         // 정렬 옵션 유효성 검증
         if (sortBy == null || sortBy.trim().isEmpty()) {
             sortBy = "created_at";
         }
-        if (!"ASC".equalsIgnoreCase(sortDirection) && !"DESC".equalsIgnoreCase(sortDirection)) {
-            sortDirection = "DESC";
-        }
+        // 정렬 방향은 대문자로 정규화 (캐시 키/SQL 모양/색인 정렬이 같은 값을 보도록)
+        sortDirection = "ASC".equalsIgnoreCase(sortDirection) ? "ASC" : "DESC";
     }
     
     /**
@@ -0,0 +1,24 @@
+package io.goorm.mybatisboard.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class SlowQueryDto {
+    
+    private String statementId;         // 매핑 구문 (예: PostMapper.findAllWithConditions)
+    private long elapsedMillis;         // 실행 시간 (ms)
+    private LocalDateTime capturedAt;   // 포착 시각
+    private String sql;                 // 실행된 SQL (? 자리표시자 포함)
+    private List<String> parameters;    // 바인딩 값 (? 순서)
+    private String plan;                // EXPLAIN 결과
+    private boolean fullScan;           // 전체 테이블 스캔 포함 여부
+    private List<String> warnings;      // 전체 스캔/미사용 인덱스 등 진단
+    private String error;               // EXPLAIN 실패 사유
+}
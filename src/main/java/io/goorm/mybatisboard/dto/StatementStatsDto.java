@@ -0,0 +1,22 @@
+package io.goorm.mybatisboard.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class StatementStatsDto {
+    
+    private String statementId;         // 매핑 구문 (예: PostMapper.findAllWithConditions)
+    private long calls;                 // 호출 수
+    private long rows;                  // 조회/변경 행 수 합계
+    private double meanMicros;          // 평균 지연시간 (µs)
+    private long p50Micros;             // 중앙값 (µs)
+    private long p99Micros;             // 99 백분위 (µs)
+    private long maxMicros;             // 최대 (µs)
+    private LocalDateTime windowStartedAt;  // 통계 구간 시작 시각
+}
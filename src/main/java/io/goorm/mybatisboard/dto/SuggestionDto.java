@@ -0,0 +1,15 @@
+package io.goorm.mybatisboard.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class SuggestionDto {
+    
+    private String type;            // 후보 종류 (title, author)
+    private String text;            // 자동완성 문구 (원문)
+    private long score;             // 정렬 점수 (게시글 조회수 합계)
+}
@@ -0,0 +1,10 @@
+package io.goorm.mybatisboard.dto;
+
+/**
+ * COUNT(*) OVER()로 전체 개수를 함께 조회하는 행
+ * 모든 행에 같은 값이 실리므로 첫 행에서 한 번만 읽음
+ */
+public interface WindowCounted {
+
+    Long getTotalCount();
+}
@@ -0,0 +1,61 @@
+package io.goorm.mybatisboard.event;
+
+import io.goorm.mybatisboard.model.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 게시글 변경 이벤트
+ * PostService의 쓰기 메서드가 발행하며, 캐시/인덱스 등은 커밋 이후 이 이벤트로 갱신
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class PostChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED, BULK_DELETED, BULK_IMPORTED }
+
+    private final Type type;
+    private final Long postId;      // 대량 적재/일괄 삭제 시 null
+    private final Post post;        // 변경 후 게시글 (삭제/대량 적재 시 null)
+    private final List<Long> postIds;   // 일괄 삭제 대상 (그 외 null)
+
+    public static PostChangedEvent created(Post post) {
+        return new PostChangedEvent(Type.CREATED, post.getId(), post, null);
+    }
+
+    public static PostChangedEvent updated(Post post) {
+        return new PostChangedEvent(Type.UPDATED, post.getId(), post, null);
+    }
+
+    public static PostChangedEvent deleted(Long postId) {
+        return new PostChangedEvent(Type.DELETED, postId, null, null);
+    }
+
+    /**
+     * 일괄 삭제 - 청크 하나당 이벤트 하나 (캐시는 한 번만 무효화, 색인은 한 번의 락으로 제거)
+     */
+    public static PostChangedEvent bulkDeleted(List<Long> postIds) {
+        return new PostChangedEvent(Type.BULK_DELETED, null, null, List.copyOf(postIds));
+    }
+
+    /**
+     * 대량 적재 완료 - 개별 게시글 정보 없이 전체 갱신이 필요함을 알림
+     */
+    public static PostChangedEvent bulkImported() {
+        return new PostChangedEvent(Type.BULK_IMPORTED, null, null, null);
+    }
+
+    /**
+     * 변경된 게시글 id 목록 (단건 이벤트는 postId 하나, 대량 적재는 빈 목록)
+     */
+    public List<Long> getAffectedPostIds() {
+        if (postIds != null) {
+            return postIds;
+        }
+        return postId != null ? List.of(postId) : List.of();
+    }
+}
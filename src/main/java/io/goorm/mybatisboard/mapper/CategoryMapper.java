@@ -1,13 +1,22 @@
 package io.goorm.mybatisboard.mapper;
 
 import io.goorm.mybatisboard.dto.CategoryDto;
+import io.goorm.mybatisboard.dto.CountedCategoryDto;
 import io.goorm.mybatisboard.dto.CategorySearchConditionDto;
+import io.goorm.mybatisboard.mapper.provider.CategorySearchSqlProvider;
+import io.goorm.mybatisboard.mapper.provider.ShapeCachingLanguageDriver;
+import org.apache.ibatis.annotations.CacheNamespaceRef;
+import org.apache.ibatis.annotations.Lang;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.ResultType;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
 
 @Mapper
+@CacheNamespaceRef(CategoryMapper.class)
 public interface CategoryMapper {
     
     // ========== 검색 기능 ==========
@@ -15,13 +24,25 @@ public interface CategoryMapper {
     /**
      * 검색 조건에 따른 카테고리 목록 조회
      */
+    @SelectProvider(type = CategorySearchSqlProvider.class, method = "findAllWithConditions")
+    @Lang(ShapeCachingLanguageDriver.class)
     List<CategoryDto> findAllWithConditions(CategorySearchConditionDto condition);
     
     /**
      * 검색 조건에 따른 카테고리 총 개수
      */
+    @SelectProvider(type = CategorySearchSqlProvider.class, method = "countAllWithConditions")
+    @Lang(ShapeCachingLanguageDriver.class)
     int countAllWithConditions(CategorySearchConditionDto condition);
     
+    /**
+     * 검색 조건에 따른 카테고리 목록 + 총 개수 (COUNT(*) OVER() 단일 조회)
+     */
+    @SelectProvider(type = CategorySearchSqlProvider.class, method = "findAllWithConditionsCounted")
+    @Lang(ShapeCachingLanguageDriver.class)
+    @ResultType(CountedCategoryDto.class)
+    void findAllWithConditionsCounted(CategorySearchConditionDto condition, ResultHandler<CountedCategoryDto> handler);
+    
     // ========== 기본 조회 ==========
     
     /**
@@ -34,6 +55,11 @@ public interface CategoryMapper {
      */
     List<CategoryDto> findActiveCategories();
     
+    /**
+     * 전체 카테고리 조회 (캐시 적재용)
+     */
+    List<CategoryDto> findAllForCache();
+    
     /**
      * 전체 카테고리 수
      */
@@ -0,0 +1,55 @@
+package io.goorm.mybatisboard.mapper;
+
+import io.goorm.mybatisboard.dto.CategoryPostCountDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 카테고리/상태별 게시글 수 요약 (category_post_stats)
+ */
+@Mapper
+public interface CategoryPostStatsMapper {
+    
+    // ========== 증감 (게시글 쓰기 트랜잭션 안에서 호출) ==========
+    
+    /**
+     * 게시글 수 증감 - 행이 없으면 생성
+     */
+    void adjust(@Param("categoryId") Long categoryId, @Param("status") String status, @Param("delta") long delta);
+    
+    // ========== 조회 ==========
+    
+    /**
+     * 전체 요약 (카테고리 × 상태 행 수만큼만 읽음)
+     */
+    List<CategoryPostCountDto> findAll();
+    
+    // ========== 대조 ==========
+    
+    /**
+     * 대조 대상 카테고리 - categories와 요약에 나타나는 카테고리 ID (posts 전체 스캔 없음)
+     */
+    List<Long> findCategoryIds();
+    
+    /**
+     * 잠금/캐시 없는 요약 전체 (대조 전 비교용)
+     */
+    List<CategoryPostCountDto> findAllForReconcile();
+    
+    /**
+     * 카테고리의 요약 행 잠금 조회 (대조 중 동시 증감 방지)
+     */
+    List<CategoryPostCountDto> findByCategoryForUpdate(@Param("categoryId") Long categoryId);
+    
+    /**
+     * 카테고리의 실제 상태별 게시글 수 (idx_posts_category_status)
+     */
+    List<CategoryPostCountDto> countPostsByCategory(@Param("categoryId") Long categoryId);
+    
+    /**
+     * 게시글 수 덮어쓰기 - 행이 없으면 생성
+     */
+    void setCount(@Param("categoryId") Long categoryId, @Param("status") String status, @Param("postCount") long postCount);
+}
@@ -1,43 +1,112 @@
 package io.goorm.mybatisboard.mapper;
 
 import io.goorm.mybatisboard.model.Post;
+import io.goorm.mybatisboard.dto.CountedPostWithDetailsDto;
+import io.goorm.mybatisboard.dto.PostCursor;
+import io.goorm.mybatisboard.dto.PostListDto;
 import io.goorm.mybatisboard.dto.SearchConditionDto;
 import io.goorm.mybatisboard.dto.PostWithDetailsDto;
 import io.goorm.mybatisboard.dto.CategoryDto;
+import io.goorm.mybatisboard.mapper.provider.PostSearchSqlProvider;
+import io.goorm.mybatisboard.mapper.provider.ShapeCachingLanguageDriver;
+import org.apache.ibatis.annotations.CacheNamespaceRef;
+import org.apache.ibatis.annotations.Lang;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.ResultType;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
+@CacheNamespaceRef(PostMapper.class)
 public interface PostMapper {
 
-    List<Post> findAll(@Param("offset") int offset, @Param("size") int size);
+    List<PostListDto> findAll(@Param("offset") int offset, @Param("size") int size);
 
     int countAll();
 
-    List<Post> findAllWithSearch(@Param("searchType") String searchType,
-                                 @Param("keyword") String keyword,
-                                 @Param("offset") int offset,
-                                 @Param("size") int size);
+    int countAllCapped(@Param("limit") int limit);
+
+    List<PostListDto> findAllWithSearch(@Param("searchType") String searchType,
+                                        @Param("keyword") String keyword,
+                                        @Param("offset") int offset,
+                                        @Param("size") int size);
 
     int countAllWithSearch(@Param("searchType") String searchType,
                            @Param("keyword") String keyword);
 
+    int countAllWithSearchCapped(@Param("searchType") String searchType,
+                                 @Param("keyword") String keyword,
+                                 @Param("limit") int limit);
+
+    List<PostListDto> findAllByCursor(@Param("searchType") String searchType,
+                                      @Param("keyword") String keyword,
+                                      @Param("keyset") PostCursor keyset,
+                                      @Param("limit") int limit);
+
     Post findById(@Param("id") Long id);
     
     void save(Post post);
     
-    void update(@Param("id") Long id, @Param("post") Post post);
+    void saveForImport(Post post);
+    
+    int update(@Param("id") Long id, @Param("post") Post post);
     
-    void delete(@Param("id") Long id);
+    // ========== 검색 색인 ==========
     
-    // ========== 통합 검색 시스템 ==========
+    List<Post> findAllForIndex(@Param("afterId") long afterId, @Param("limit") int limit);
     
+    List<Post> findAllForSuggest(@Param("afterId") long afterId, @Param("limit") int limit);
+    
+    List<PostListDto> findListByIds(@Param("ids") List<Long> ids);
+    
+    List<PostWithDetailsDto> findAllWithConditionsByIds(@Param("ids") List<Long> ids);
+    
+    // ========== 통합 검색 시스템 (PostSearchSqlProvider - 조건 조합별 SQL 재사용) ==========
+    
+    @SelectProvider(type = PostSearchSqlProvider.class, method = "findAllWithConditions")
+    @Lang(ShapeCachingLanguageDriver.class)
     List<PostWithDetailsDto> findAllWithConditions(SearchConditionDto condition);
     
+    @SelectProvider(type = PostSearchSqlProvider.class, method = "countAllWithConditions")
+    @Lang(ShapeCachingLanguageDriver.class)
     int countAllWithConditions(SearchConditionDto condition);
     
+    @SelectProvider(type = PostSearchSqlProvider.class, method = "findAllWithConditionsCounted")
+    @Lang(ShapeCachingLanguageDriver.class)
+    @ResultType(CountedPostWithDetailsDto.class)
+    void findAllWithConditionsCounted(SearchConditionDto condition, ResultHandler<CountedPostWithDetailsDto> handler);
+    
+    @SelectProvider(type = PostSearchSqlProvider.class, method = "countAllWithConditionsCapped")
+    @Lang(ShapeCachingLanguageDriver.class)
+    int countAllWithConditionsCapped(SearchConditionDto condition);
+    
+    @SelectProvider(type = PostSearchSqlProvider.class, method = "findAllWithConditionsByCursor")
+    @Lang(ShapeCachingLanguageDriver.class)
+    List<PostWithDetailsDto> findAllWithConditionsByCursor(SearchConditionDto condition);
+    
+    // ========== 일괄 삭제 (소프트 삭제 → 영구 삭제) ==========
+    
+    List<Long> findIdsForModeration(SearchConditionDto condition);
+    
+    List<Post> findByIdsForUpdate(@Param("ids") List<Long> ids);
+    
+    int softDeleteByIds(@Param("ids") List<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+    
+    List<Long> findIdsForPurge(@Param("deletedBefore") LocalDateTime deletedBefore,
+                               @Param("afterId") long afterId,
+                               @Param("limit") int limit);
+    
+    int purgeByIds(@Param("ids") List<Long> ids);
+    
+    // ========== 스트리밍 내보내기 ==========
+    
+    Cursor<Post> streamAll(SearchConditionDto condition);
+    
     // ========== 카테고리 관리 ==========
     
     List<CategoryDto> findAllCategories();
@@ -0,0 +1,31 @@
+package io.goorm.mybatisboard.mapper;
+
+import io.goorm.mybatisboard.dto.PostPartitionDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * posts 테이블 월 파티션 관리 (MariaDB 전용 - mapper/maria/PostPartitionMapper.xml)
+ */
+@Mapper
+public interface PostPartitionMapper {
+    
+    /**
+     * 파티션 목록 (경계 순)
+     */
+    List<PostPartitionDto> findPartitions();
+    
+    /**
+     * p_future를 나누어 월 파티션 추가
+     *
+     * @param lessThan 상한 시각 (yyyy-MM-dd HH:mm:ss)
+     */
+    void addPartition(@Param("name") String name, @Param("lessThan") String lessThan);
+    
+    /**
+     * 파티션 삭제 (파티션의 행도 함께 삭제)
+     */
+    void dropPartition(@Param("name") String name);
+}
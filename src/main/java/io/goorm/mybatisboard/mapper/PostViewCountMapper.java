@@ -0,0 +1,17 @@
+package io.goorm.mybatisboard.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Map;
+
+/**
+ * 조회수 일괄 반영 (ViewCountService 전용)
+ * PostMapper 2차 캐시를 공유(cache-ref) - 반영이 성공한 뒤에만 캐시를 비움
+ * 반영 후 pendingDelta가 0이 되어도 캐시에 남은 이전 조회수가 보이지 않도록 (반영 주기당 한 번)
+ */
+@Mapper
+public interface PostViewCountMapper {
+    
+    void incrementViewCounts(@Param("deltas") Map<Long, Long> deltas);
+}
@@ -0,0 +1,124 @@
+package io.goorm.mybatisboard.mapper.provider;
+
+import io.goorm.mybatisboard.dto.CategorySearchConditionDto;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static io.goorm.mybatisboard.mapper.provider.SqlShapes.and;
+import static io.goorm.mybatisboard.mapper.provider.SqlShapes.shape;
+
+/**
+ * 카테고리 검색 SQL 생성기 (CategoryMapper @SelectProvider)
+ * PostSearchSqlProvider와 같은 방식 - 조건 조합 비트마스크별 SQL을 한 번만 만들어 재사용
+ *
+ * 검색 조건 비트: 키워드(이름/설명) 2비트 + 활성 상태 1비트, 정렬은 별도 비트
+ */
+public final class CategorySearchSqlProvider {
+
+    private static final int KEYWORD_NAME = 1;
+    private static final int KEYWORD_DESCRIPTION = 1 << 1;
+    private static final int ACTIVE_FILTER = 1 << 2;
+    private static final int SEARCH_BITS = 3;
+
+    // 정렬 - XML <choose> 순서와 같은 의미 (sortDirection은 조건 DTO에서 ASC/DESC로 정규화된 값)
+    private static final String[] ORDER_BY = {
+            "c.display_order ASC", "c.display_order DESC",
+            "c.name ASC", "c.name DESC",
+            "c.created_at ASC", "c.created_at DESC"
+    };
+    private static final int SORT_BITS = 3;
+
+    private static final String COLUMNS = "SELECT c.id, c.name, c.description, c.display_order, c.is_active,"
+            + " c.created_at, c.updated_at,"
+            + " COALESCE(s.post_count, 0) AS post_count, COALESCE(s.published_count, 0) AS published_count";
+
+    // 카테고리별 게시글 수 - posts 집계 대신 요약 테이블(카테고리 × 상태 행)만 읽음, 삭제된 게시글 제외
+    private static final String POST_COUNT_JOIN = " LEFT JOIN ("
+            + "SELECT category_id, SUM(CASE WHEN status <> 'DELETED' THEN post_count ELSE 0 END) AS post_count,"
+            + " SUM(CASE WHEN status = 'PUBLISHED' THEN post_count ELSE 0 END) AS published_count"
+            + " FROM category_post_stats GROUP BY category_id"
+            + ") s ON s.category_id = c.id";
+
+    private static final AtomicReferenceArray<String> PAGE = new AtomicReferenceArray<>(1 << (SEARCH_BITS + SORT_BITS));
+    private static final AtomicReferenceArray<String> PAGE_COUNTED = new AtomicReferenceArray<>(1 << (SEARCH_BITS + SORT_BITS));
+    private static final AtomicReferenceArray<String> COUNT = new AtomicReferenceArray<>(1 << SEARCH_BITS);
+
+    private CategorySearchSqlProvider() {
+    }
+
+    // ========== @SelectProvider 메서드 ==========
+
+    public static String findAllWithConditions(CategorySearchConditionDto condition) {
+        int mask = searchMask(condition) | sortIndex(condition) << SEARCH_BITS;
+        return shape(PAGE, mask, m -> page(m, false));
+    }
+
+    public static String findAllWithConditionsCounted(CategorySearchConditionDto condition) {
+        int mask = searchMask(condition) | sortIndex(condition) << SEARCH_BITS;
+        return shape(PAGE_COUNTED, mask, m -> page(m, true));
+    }
+
+    public static String countAllWithConditions(CategorySearchConditionDto condition) {
+        return shape(COUNT, searchMask(condition), m -> "SELECT COUNT(*) FROM categories c" + where(m));
+    }
+
+    // ========== 비트마스크 ==========
+
+    private static int searchMask(CategorySearchConditionDto condition) {
+        int mask = 0;
+        if (condition.hasKeyword()) {
+            String searchType = condition.getSearchType();
+            if (!"description".equals(searchType)) {
+                mask |= KEYWORD_NAME;
+            }
+            if (!"name".equals(searchType)) {
+                mask |= KEYWORD_DESCRIPTION;
+            }
+        }
+        if (condition.getIsActive() != null) {
+            mask |= ACTIVE_FILTER;
+        }
+        return mask;
+    }
+
+    private static int sortIndex(CategorySearchConditionDto condition) {
+        String sortBy = condition.getSortBy();
+        boolean asc = "ASC".equals(condition.getSortDirection());
+        boolean desc = "DESC".equals(condition.getSortDirection());
+        if ("name".equals(sortBy) && (asc || desc)) {
+            return asc ? 2 : 3;
+        }
+        if ("created_at".equals(sortBy) && (asc || desc)) {
+            return asc ? 4 : 5;
+        }
+        return desc ? 1 : 0;
+    }
+
+    // ========== SQL 조립 (모양별 최초 1회) ==========
+
+    private static String page(int mask, boolean counted) {
+        return COLUMNS
+                + (counted ? ", COUNT(*) OVER() AS total_count" : "")
+                + " FROM categories c"
+                + POST_COUNT_JOIN
+                + where(mask)
+                + " ORDER BY " + ORDER_BY[mask >>> SEARCH_BITS]
+                + " LIMIT #{offset}, #{size}";
+    }
+
+    private static String where(int mask) {
+        StringBuilder where = new StringBuilder();
+        if ((mask & (KEYWORD_NAME | KEYWORD_DESCRIPTION)) == (KEYWORD_NAME | KEYWORD_DESCRIPTION)) {
+            and(where, "(LOWER(c.name) LIKE LOWER(CONCAT('%', #{keyword}, '%'))"
+                    + " OR LOWER(c.description) LIKE LOWER(CONCAT('%', #{keyword}, '%')))");
+        } else if ((mask & KEYWORD_NAME) != 0) {
+            and(where, "LOWER(c.name) LIKE LOWER(CONCAT('%', #{keyword}, '%'))");
+        } else if ((mask & KEYWORD_DESCRIPTION) != 0) {
+            and(where, "LOWER(c.description) LIKE LOWER(CONCAT('%', #{keyword}, '%'))");
+        }
+        if ((mask & ACTIVE_FILTER) != 0) {
+            and(where, "c.is_active = #{isActive}");
+        }
+        return where.toString();
+    }
+}
@@ -0,0 +1,197 @@
+package io.goorm.mybatisboard.mapper.provider;
+
+import io.goorm.mybatisboard.dto.PostCursor;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static io.goorm.mybatisboard.mapper.provider.SqlShapes.and;
+import static io.goorm.mybatisboard.mapper.provider.SqlShapes.clear;
+import static io.goorm.mybatisboard.mapper.provider.SqlShapes.shape;
+
+/**
+ * 통합 검색 SQL 생성기 (PostMapper @SelectProvider)
+ * XML 동적 SQL의 OGNL 평가/SQL 조립을 매 요청 반복하는 대신 조건 조합을 비트마스크로 만들고,
+ * 비트마스크별 SQL 문자열을 처음 한 번만 만들어 재사용 (모양 수가 고정 → SqlSource/PreparedStatement 캐시 적중)
+ *
+ * 검색 조건 비트: 키워드(제목/내용) 2비트 + 작성일 하한/상한 2비트, 정렬은 별도 비트
+ * 소프트 삭제된 게시글(status = 'DELETED')은 모든 모양에서 제외
+ */
+public final class PostSearchSqlProvider {
+
+    private static final int KEYWORD_TITLE = 1;
+    private static final int KEYWORD_CONTENT = 1 << 1;
+    private static final int CREATED_FROM = 1 << 2;
+    private static final int CREATED_BEFORE = 1 << 3;
+    private static final int SEARCH_BITS = 4;
+
+    // 정렬 - XML <choose> 순서와 같은 의미 (sortDirection은 조건 DTO에서 ASC/DESC로 정규화된 값)
+    private static final String[] ORDER_BY = {
+            "p.created_at DESC", "p.created_at ASC",
+            "p.title ASC", "p.title DESC",
+            "p.view_count ASC", "p.view_count DESC",
+            "p.author_name ASC", "p.author_name DESC"
+    };
+    private static final int SORT_BITS = 3;
+
+    // 키셋 정렬 컬럼 (PostCursor.getSortColumn 화이트리스트 - 모두 NOT NULL이라 원래 컬럼으로 인덱스 탐색)
+    private static final String[] KEYSET_COLUMNS = {
+            "p.created_at", "p.title", "p.view_count", "p.author_name"
+    };
+    private static final int KEYSET_DESC = 1 << (SEARCH_BITS + 2);
+    private static final int KEYSET_AFTER = 1 << (SEARCH_BITS + 3);
+
+    private static final AtomicReferenceArray<String> PAGE = new AtomicReferenceArray<>(1 << (SEARCH_BITS + SORT_BITS));
+    private static final AtomicReferenceArray<String> PAGE_COUNTED = new AtomicReferenceArray<>(1 << (SEARCH_BITS + SORT_BITS));
+    private static final AtomicReferenceArray<String> COUNT = new AtomicReferenceArray<>(1 << SEARCH_BITS);
+    private static final AtomicReferenceArray<String> COUNT_CAPPED = new AtomicReferenceArray<>(1 << SEARCH_BITS);
+    private static final AtomicReferenceArray<String> KEYSET = new AtomicReferenceArray<>(1 << (SEARCH_BITS + 4));
+
+    private static volatile String snippetColumn = "";
+
+    private PostSearchSqlProvider() {
+    }
+
+    /**
+     * 본문 요약 길이 (mybatis.configuration-properties.listSnippetLength, 0이면 요약 컬럼 생략)
+     * 시작 시 한 번 설정 - 이미 만든 SQL은 버림
+     */
+    public static void configure(int listSnippetLength) {
+        snippetColumn = listSnippetLength > 0 ? ", SUBSTRING(p.content, 1, " + listSnippetLength + ") AS snippet" : "";
+        clear(PAGE);
+        clear(PAGE_COUNTED);
+        clear(KEYSET);
+    }
+
+    // ========== @SelectProvider 메서드 ==========
+
+    public static String findAllWithConditions(SearchConditionDto condition) {
+        int mask = searchMask(condition) | sortIndex(condition) << SEARCH_BITS;
+        return shape(PAGE, mask, m -> page(m, false));
+    }
+
+    public static String findAllWithConditionsCounted(SearchConditionDto condition) {
+        int mask = searchMask(condition) | sortIndex(condition) << SEARCH_BITS;
+        return shape(PAGE_COUNTED, mask, m -> page(m, true));
+    }
+
+    public static String countAllWithConditions(SearchConditionDto condition) {
+        return shape(COUNT, searchMask(condition),
+                m -> "SELECT COUNT(*) FROM posts p" + where(m, null));
+    }
+
+    public static String countAllWithConditionsCapped(SearchConditionDto condition) {
+        return shape(COUNT_CAPPED, searchMask(condition),
+                m -> "SELECT COUNT(*) FROM (SELECT 1 FROM posts p" + where(m, null) + " LIMIT #{countLimit}) t");
+    }
+
+    public static String findAllWithConditionsByCursor(SearchConditionDto condition) {
+        PostCursor keyset = condition.getKeyset() != null ? condition.getKeyset() : condition.resolveKeyset();
+        int mask = searchMask(condition)
+                | keysetColumnIndex(keyset.getSortColumn()) << SEARCH_BITS
+                | ("DESC".equals(keyset.getOrderDirection()) ? KEYSET_DESC : 0)
+                | (keyset.isFirst() ? 0 : KEYSET_AFTER);
+        return shape(KEYSET, mask, PostSearchSqlProvider::keyset);
+    }
+
+    // ========== 비트마스크 ==========
+
+    private static int searchMask(SearchConditionDto condition) {
+        int mask = 0;
+        if (condition.hasKeyword()) {
+            String searchType = condition.getSearchType();
+            if (!"content".equals(searchType)) {
+                mask |= KEYWORD_TITLE;
+            }
+            if (!"title".equals(searchType)) {
+                mask |= KEYWORD_CONTENT;
+            }
+        }
+        if (condition.getCreatedFrom() != null) {
+            mask |= CREATED_FROM;
+        }
+        if (condition.getCreatedBefore() != null) {
+            mask |= CREATED_BEFORE;
+        }
+        return mask;
+    }
+
+    private static int sortIndex(SearchConditionDto condition) {
+        String sortBy = condition.getSortBy();
+        boolean asc = "ASC".equals(condition.getSortDirection());
+        boolean desc = "DESC".equals(condition.getSortDirection());
+        if (asc || desc) {
+            switch (sortBy != null ? sortBy : "") {
+                case "title": return asc ? 2 : 3;
+                case "view_count": return asc ? 4 : 5;
+                case "author_name": return asc ? 6 : 7;
+                default: break;
+            }
+        }
+        return asc ? 1 : 0;
+    }
+
+    private static int keysetColumnIndex(String sortColumn) {
+        for (int i = 0; i < KEYSET_COLUMNS.length; i++) {
+            if (KEYSET_COLUMNS[i].equals(sortColumn)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    // ========== SQL 조립 (모양별 최초 1회) ==========
+
+    private static String columns() {
+        return "SELECT p.id, p.title, p.created_at, p.updated_at, p.author_name AS author, p.view_count, p.category_id"
+                + snippetColumn;
+    }
+
+    private static String page(int mask, boolean counted) {
+        return columns()
+                + (counted ? ", COUNT(*) OVER() AS total_count" : "")
+                + " FROM posts p"
+                + where(mask, null)
+                + " ORDER BY " + ORDER_BY[mask >>> SEARCH_BITS]
+                + " LIMIT #{offset}, #{size}";
+    }
+
+    private static String keyset(int mask) {
+        String column = KEYSET_COLUMNS[(mask >>> SEARCH_BITS) & 0b11];
+        String direction = (mask & KEYSET_DESC) != 0 ? "DESC" : "ASC";
+        String keysetPredicate = null;
+        if ((mask & KEYSET_AFTER) != 0) {
+            String operator = (mask & KEYSET_DESC) != 0 ? "<" : ">";
+            keysetPredicate = "(" + column + " " + operator + " #{keyset.sortValue}"
+                    + " OR (" + column + " = #{keyset.sortValue} AND p.id " + operator + " #{keyset.id}))";
+        }
+        return columns()
+                + " FROM posts p"
+                + where(mask, keysetPredicate)
+                + " ORDER BY " + column + " " + direction + ", p.id " + direction
+                + " LIMIT #{keysetLimit}";
+    }
+
+    private static String where(int mask, String extraPredicate) {
+        StringBuilder where = new StringBuilder();
+        and(where, "p.status <> 'DELETED'");
+        if ((mask & (KEYWORD_TITLE | KEYWORD_CONTENT)) == (KEYWORD_TITLE | KEYWORD_CONTENT)) {
+            and(where, "(LOWER(p.title) LIKE LOWER(CONCAT('%', #{keyword}, '%'))"
+                    + " OR LOWER(p.content) LIKE LOWER(CONCAT('%', #{keyword}, '%')))");
+        } else if ((mask & KEYWORD_TITLE) != 0) {
+            and(where, "LOWER(p.title) LIKE LOWER(CONCAT('%', #{keyword}, '%'))");
+        } else if ((mask & KEYWORD_CONTENT) != 0) {
+            and(where, "LOWER(p.content) LIKE LOWER(CONCAT('%', #{keyword}, '%'))");
+        }
+        if ((mask & CREATED_FROM) != 0) {
+            and(where, "p.created_at >= #{createdFrom}");
+        }
+        if ((mask & CREATED_BEFORE) != 0) {
+            and(where, "p.created_at < #{createdBefore}");
+        }
+        if (extraPredicate != null) {
+            and(where, extraPredicate);
+        }
+        return where.toString();
+    }
+}
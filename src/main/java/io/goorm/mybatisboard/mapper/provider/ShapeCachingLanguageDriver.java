@@ -0,0 +1,37 @@
+package io.goorm.mybatisboard.mapper.provider;
+
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.apache.ibatis.session.Configuration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL 모양별 SqlSource 캐시
+ * ProviderSqlSource는 매 호출마다 반환된 SQL 문자열을 다시 파싱(#{} → ParameterMapping)하므로,
+ * 고정된 모양만 만드는 Provider와 함께 쓰면 처음 한 번만 파싱하고 이후에는 BoundSql 생성만 남음
+ * - 모양 수가 한정되지 않는 SQL에 쓰지 않도록 상한을 넘으면 캐시하지 않음
+ */
+public class ShapeCachingLanguageDriver extends XMLLanguageDriver {
+
+    private static final int MAX_SHAPES = 4096;
+
+    private final Map<ShapeKey, SqlSource> sources = new ConcurrentHashMap<>();
+
+    @Override
+    public SqlSource createSqlSource(Configuration configuration, String script, Class<?> parameterType) {
+        ShapeKey key = new ShapeKey(script, parameterType);
+        SqlSource source = sources.get(key);
+        if (source == null) {
+            source = super.createSqlSource(configuration, script, parameterType);
+            if (sources.size() < MAX_SHAPES) {
+                sources.put(key, source);
+            }
+        }
+        return source;
+    }
+
+    private record ShapeKey(String script, Class<?> parameterType) {
+    }
+}
@@ -0,0 +1,35 @@
+package io.goorm.mybatisboard.mapper.provider;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * SQL 모양 캐시 공통 유틸 (검색 Provider 전용)
+ */
+final class SqlShapes {
+
+    private SqlShapes() {
+    }
+
+    /**
+     * 비트마스크 자리에 만들어 둔 SQL 반환, 없으면 만들어 저장 (경합 시 같은 SQL이 한 번 더 만들어질 뿐)
+     */
+    static String shape(AtomicReferenceArray<String> cache, int mask, IntFunction<String> builder) {
+        String sql = cache.get(mask);
+        if (sql == null) {
+            sql = builder.apply(mask);
+            cache.set(mask, sql);
+        }
+        return sql;
+    }
+
+    static void and(StringBuilder where, String predicate) {
+        where.append(where.length() == 0 ? " WHERE " : " AND ").append(predicate);
+    }
+
+    static void clear(AtomicReferenceArray<String> cache) {
+        for (int i = 0; i < cache.length(); i++) {
+            cache.set(i, null);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.goorm.mybatisboard.model;
 
 import lombok.*;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Getter
@@ -9,7 +10,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
-public class Post {
+public class Post implements Serializable {
     
     private Long id;
     private String title;
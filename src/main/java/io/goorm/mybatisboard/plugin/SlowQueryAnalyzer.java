@@ -0,0 +1,321 @@
+package io.goorm.mybatisboard.plugin;
+
+import io.goorm.mybatisboard.dto.SlowQueryDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 느린 조회 구문 실행 계획 분석기
+ * SlowQueryInterceptor가 넘긴 SQL을 별도 스레드/커넥션에서 EXPLAIN(H2, MariaDB)하고 최근 N건을 링 버퍼에 보관
+ * - 전체 테이블 스캔 표시
+ * - 미사용 인덱스 표시 (MariaDB: possible_keys 중 선택되지 않은 키, H2: WHERE에 선두 컬럼이 있으나 계획에 없는 인덱스)
+ * - 같은 구문은 cooldown 동안 한 번만 분석, 대기열이 가득 차면 건너뜀 (요청 경로에 영향 없음)
+ */
+@Component
+@Slf4j
+public class SlowQueryAnalyzer {
+
+    private static final int MAX_PARAMETER_LENGTH = 100;
+    private static final Pattern H2_TABLE_SCAN = Pattern.compile("(\\w+)\\.tableScan");
+    private static final Pattern WHERE = Pattern.compile("\\bwhere\\b");
+    private static final Pattern WHERE_END = Pattern.compile("\\b(order\\s+by|group\\s+by|limit)\\b");
+
+    private final DataSource dataSource;
+    private final boolean enabled;
+    private final long thresholdNanos;
+    private final long cooldownMillis;
+    private final ThreadPoolExecutor executor;
+
+    // 최근 느린 구문 (링 버퍼)
+    private final SlowQueryDto[] entries;
+    private int nextSlot;
+    private int size;
+
+    private final Map<String, Long> lastCaptured = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, List<String>>> indexesByTable = new ConcurrentHashMap<>();
+    private volatile Set<String> tableNames;
+
+    public SlowQueryAnalyzer(DataSource dataSource,
+                             @Value("${board.slow-query.enabled:true}") boolean enabled,
+                             @Value("${board.slow-query.threshold-ms:200}") long thresholdMillis,
+                             @Value("${board.slow-query.capacity:50}") int capacity,
+                             @Value("${board.slow-query.cooldown-seconds:60}") long cooldownSeconds) {
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.cooldownMillis = TimeUnit.SECONDS.toMillis(cooldownSeconds);
+        this.entries = new SlowQueryDto[Math.max(1, capacity)];
+        this.executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getThresholdNanos() {
+        return thresholdNanos;
+    }
+
+    /**
+     * 같은 구문을 cooldown 안에 다시 분석하지 않도록 포착 시각을 선점
+     */
+    public boolean shouldCapture(String statementId) {
+        long now = System.currentTimeMillis();
+        boolean[] accepted = {false};
+        lastCaptured.compute(statementId, (id, last) -> {
+            if (last == null || now - last >= cooldownMillis) {
+                accepted[0] = true;
+                return now;
+            }
+            return last;
+        });
+        return accepted[0];
+    }
+
+    public void submit(String statementId, String sql, List<Object> parameters, long elapsedMillis) {
+        LocalDateTime capturedAt = LocalDateTime.now();
+        try {
+            executor.execute(() -> add(analyze(statementId, sql, parameters, elapsedMillis, capturedAt)));
+        } catch (RejectedExecutionException e) {
+            log.debug("Slow query analysis skipped (queue full): {}", statementId);
+        }
+    }
+
+    // ========== 링 버퍼 ==========
+
+    private synchronized void add(SlowQueryDto entry) {
+        entries[nextSlot] = entry;
+        nextSlot = (nextSlot + 1) % entries.length;
+        size = Math.min(size + 1, entries.length);
+    }
+
+    /**
+     * 최근 느린 구문 (최신순)
+     */
+    public synchronized List<SlowQueryDto> recent() {
+        List<SlowQueryDto> result = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            result.add(entries[(nextSlot - i + entries.length) % entries.length]);
+        }
+        return result;
+    }
+
+    public synchronized List<SlowQueryDto> clear() {
+        List<SlowQueryDto> result = recent();
+        Arrays.fill(entries, null);
+        nextSlot = 0;
+        size = 0;
+        lastCaptured.clear();
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ========== 실행 계획 ==========
+
+    private SlowQueryDto analyze(String statementId, String sql, List<Object> parameters, long elapsedMillis,
+                                 LocalDateTime capturedAt) {
+        SlowQueryDto entry = new SlowQueryDto(StatementStatsRegistry.shortName(statementId), elapsedMillis, capturedAt,
+                sql, display(parameters), null, false, new ArrayList<>(), null);
+        try (Connection connection = dataSource.getConnection()) {
+            boolean h2 = connection.getMetaData().getDatabaseProductName().toUpperCase(Locale.ROOT).contains("H2");
+            if (h2) {
+                entry.setPlan(explainH2(connection, sql, parameters, entry));
+                flagUnusedIndexes(connection, sql, entry);
+            } else {
+                entry.setPlan(explainMaria(connection, sql, parameters, entry));
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.debug("EXPLAIN failed for {}: {}", statementId, e.getMessage());
+            entry.setError(e.getMessage());
+        }
+        log.warn("Slow query {} took {}ms{}", entry.getStatementId(), elapsedMillis,
+                entry.getWarnings().isEmpty() ? "" : " " + entry.getWarnings());
+        return entry;
+    }
+
+    /**
+     * H2 - 계획은 SQL 문자열 한 컬럼, 전체 스캔은 PUBLIC.POSTS.tableScan 주석으로 표시됨
+     */
+    private String explainH2(Connection connection, String sql, List<Object> parameters, SlowQueryDto entry)
+            throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (PreparedStatement statement = prepareExplain(connection, sql, parameters);
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+        Matcher scan = H2_TABLE_SCAN.matcher(plan);
+        while (scan.find()) {
+            entry.setFullScan(true);
+            entry.getWarnings().add("전체 스캔: " + scan.group(1));
+        }
+        return plan.toString().trim();
+    }
+
+    /**
+     * MariaDB - 테이블 접근마다 한 행 (type=ALL이면 전체 스캔, possible_keys가 있는데 key가 없으면 인덱스 미사용)
+     */
+    private String explainMaria(Connection connection, String sql, List<Object> parameters, SlowQueryDto entry)
+            throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (PreparedStatement statement = prepareExplain(connection, sql, parameters);
+             ResultSet rs = statement.executeQuery()) {
+            ResultSetMetaData meta = rs.getMetaData();
+            for (int i = 1; i <= meta.getColumnCount(); i++) {
+                plan.append(i > 1 ? " | " : "").append(meta.getColumnLabel(i));
+            }
+            plan.append('\n');
+            while (rs.next()) {
+                for (int i = 1; i <= meta.getColumnCount(); i++) {
+                    plan.append(i > 1 ? " | " : "").append(rs.getString(i));
+                }
+                plan.append('\n');
+
+                String table = rs.getString("table");
+                String possibleKeys = rs.getString("possible_keys");
+                String key = rs.getString("key");
+                if ("ALL".equals(rs.getString("type"))) {
+                    entry.setFullScan(true);
+                    entry.getWarnings().add("전체 스캔: " + table + " (rows≈" + rs.getString("rows") + ")");
+                }
+                if (possibleKeys != null && !possibleKeys.isEmpty() && key == null) {
+                    entry.getWarnings().add("인덱스 미사용: " + table + " (" + possibleKeys + ")");
+                }
+            }
+        }
+        return plan.toString().trim();
+    }
+
+    private static PreparedStatement prepareExplain(Connection connection, String sql, List<Object> parameters)
+            throws SQLException {
+        PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+        try {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            return statement;
+        } catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+    // ========== 미사용 인덱스 (H2) ==========
+
+    /**
+     * WHERE 절에 선두 컬럼이 등장하는데 같은 선두 컬럼의 인덱스가 하나도 계획에 없으면 미사용으로 표시
+     */
+    private void flagUnusedIndexes(Connection connection, String sql, SlowQueryDto entry) throws SQLException {
+        String lower = sql.toLowerCase(Locale.ROOT);
+        String where = whereClause(lower);
+        if (where.isEmpty()) {
+            return;
+        }
+        String plan = entry.getPlan().toUpperCase(Locale.ROOT);
+        for (String table : tableNames(connection)) {
+            if (!Pattern.compile("\\b" + Pattern.quote(table.toLowerCase(Locale.ROOT)) + "\\b").matcher(lower).find()) {
+                continue;
+            }
+            indexes(connection, table).forEach((column, indexNames) -> {
+                boolean filtered = Pattern.compile("\\b" + Pattern.quote(column.toLowerCase(Locale.ROOT)) + "\\b")
+                        .matcher(where).find();
+                boolean used = indexNames.stream().anyMatch(name -> plan.contains(name.toUpperCase(Locale.ROOT)));
+                if (filtered && !used) {
+                    entry.getWarnings().add("인덱스 미사용: " + table + "." + column + " " + indexNames);
+                }
+            });
+        }
+    }
+
+    private static String whereClause(String sql) {
+        Matcher where = WHERE.matcher(sql);
+        if (!where.find()) {
+            return "";
+        }
+        Matcher end = WHERE_END.matcher(sql);
+        return end.find(where.end()) ? sql.substring(where.end(), end.start()) : sql.substring(where.end());
+    }
+
+    private Set<String> tableNames(Connection connection) throws SQLException {
+        Set<String> names = tableNames;
+        if (names == null) {
+            names = ConcurrentHashMap.newKeySet();
+            try (ResultSet rs = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(),
+                    "%", new String[]{"TABLE"})) {
+                while (rs.next()) {
+                    names.add(rs.getString("TABLE_NAME"));
+                }
+            }
+            tableNames = names;
+        }
+        return names;
+    }
+
+    /**
+     * 테이블의 인덱스를 선두 컬럼별로 묶음 (스키마 변경이 드물어 프로세스 동안 캐시)
+     */
+    private Map<String, List<String>> indexes(Connection connection, String table) throws SQLException {
+        Map<String, List<String>> cached = indexesByTable.get(table);
+        if (cached != null) {
+            return cached;
+        }
+        Map<String, List<String>> byLeadingColumn = new LinkedHashMap<>();
+        DatabaseMetaData meta = connection.getMetaData();
+        try (ResultSet rs = meta.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false, true)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (indexName != null && column != null && rs.getInt("ORDINAL_POSITION") == 1) {
+                    byLeadingColumn.computeIfAbsent(column, key -> new ArrayList<>()).add(indexName);
+                }
+            }
+        }
+        indexesByTable.put(table, byLeadingColumn);
+        return byLeadingColumn;
+    }
+
+    private static List<String> display(List<Object> parameters) {
+        List<String> values = new ArrayList<>(parameters.size());
+        for (Object parameter : parameters) {
+            String value = String.valueOf(parameter);
+            values.add(value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "…" : value);
+        }
+        return values;
+    }
+}
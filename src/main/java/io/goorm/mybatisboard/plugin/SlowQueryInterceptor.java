@@ -0,0 +1,96 @@
+package io.goorm.mybatisboard.plugin;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 느린 조회 구문 포착 플러그인
+ * 임계값을 넘은 SELECT의 BoundSql과 바인딩 값을 복사해 SlowQueryAnalyzer에 넘김 (실행 계획은 별도 스레드에서 조회)
+ */
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class SlowQueryInterceptor implements Interceptor {
+
+    private final SlowQueryAnalyzer analyzer;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (!analyzer.isEnabled()) {
+            return invocation.proceed();
+        }
+        long started = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            long elapsedNanos = System.nanoTime() - started;
+            if (elapsedNanos >= analyzer.getThresholdNanos()) {
+                capture(invocation.getArgs(), elapsedNanos);
+            }
+        }
+    }
+
+    private void capture(Object[] args, long elapsedNanos) {
+        MappedStatement statement = (MappedStatement) args[0];
+        if (statement.getSqlCommandType() != SqlCommandType.SELECT || !analyzer.shouldCapture(statement.getId())) {
+            return;
+        }
+        Object parameter = args[1];
+        BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : statement.getBoundSql(parameter);
+        analyzer.submit(statement.getId(), boundSql.getSql(),
+                parameterValues(statement.getConfiguration(), boundSql, parameter), elapsedNanos / 1_000_000);
+    }
+
+    /**
+     * DefaultParameterHandler와 같은 규칙으로 ? 순서대로 바인딩 값 추출
+     */
+    private static List<Object> parameterValues(Configuration configuration, BoundSql boundSql, Object parameter) {
+        List<ParameterMapping> mappings = boundSql.getParameterMappings();
+        List<Object> values = new ArrayList<>(mappings.size());
+        MetaObject metaObject = null;
+        for (ParameterMapping mapping : mappings) {
+            if (mapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            String property = mapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(property)) {
+                value = boundSql.getAdditionalParameter(property);
+            } else if (parameter == null) {
+                value = null;
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+                value = parameter;
+            } else {
+                if (metaObject == null) {
+                    metaObject = configuration.newMetaObject(parameter);
+                }
+                value = metaObject.getValue(property);
+            }
+            values.add(value instanceof Enum<?> constant ? constant.name() : value);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,103 @@
+package io.goorm.mybatisboard.plugin;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.ResultHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 매핑 구문별 지연시간/행 수 기록 플러그인
+ * StatementHandler.query/update 실행 전후 nanoTime 차이를 StatementStatsRegistry에 기록 (SQL 로그 없이 상시 사용 가능)
+ * - 2차 캐시/로컬 캐시 적중은 StatementHandler까지 내려오지 않으므로 DB 실행만 기록됨
+ * - 배치 실행기는 addBatch 대신 flushStatements(executeBatch) 시간을 구문별로 나누어 기록
+ */
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class}),
+        @Signature(type = StatementHandler.class, method = "queryCursor", args = {Statement.class}),
+        @Signature(type = StatementHandler.class, method = "update", args = {Statement.class}),
+        @Signature(type = Executor.class, method = "flushStatements", args = {boolean.class})
+})
+public class StatementStatsInterceptor implements Interceptor {
+
+    private final StatementStatsRegistry registry;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (invocation.getTarget() instanceof Executor) {
+            return interceptFlush(invocation);
+        }
+        MappedStatement statement = mappedStatement(invocation.getTarget());
+        long started = System.nanoTime();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            registry.record(statement.getId(), System.nanoTime() - started, rowCount(result));
+        }
+    }
+
+    /**
+     * 배치 실행 - 한 번의 flush에 묶인 구문 수로 시간을 나누어 기록 (비배치 실행기는 빈 결과라 기록 없음)
+     */
+    private Object interceptFlush(Invocation invocation) throws Throwable {
+        long started = System.nanoTime();
+        Object result = invocation.proceed();
+        if (result instanceof List<?> batches && !batches.isEmpty()) {
+            long elapsedPerStatement = (System.nanoTime() - started) / batches.size();
+            for (Object batch : batches) {
+                if (batch instanceof BatchResult batchResult) {
+                    registry.record(batchResult.getMappedStatement().getId(), elapsedPerStatement,
+                            affectedRows(batchResult.getUpdateCounts()));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * RoutingStatementHandler.delegate의 MappedStatement (다른 플러그인 프록시는 벗겨냄)
+     */
+    private static MappedStatement mappedStatement(Object handler) {
+        MetaObject metaObject = SystemMetaObject.forObject(handler);
+        while (metaObject.hasGetter("h")) {
+            metaObject = SystemMetaObject.forObject(metaObject.getValue("h.target"));
+        }
+        return (MappedStatement) metaObject.getValue("delegate.mappedStatement");
+    }
+
+    /**
+     * 조회는 결과 건수, 변경은 영향받은 행 수
+     */
+    private static long rowCount(Object result) {
+        if (result instanceof List<?> list) {
+            return list.size();
+        }
+        if (result instanceof Integer affected) {
+            return Math.max(0, affected);
+        }
+        return 0;
+    }
+
+    private static long affectedRows(int[] updateCounts) {
+        long rows = 0;
+        for (int count : updateCounts) {
+            rows += Math.max(0, count);
+        }
+        return rows;
+    }
+}
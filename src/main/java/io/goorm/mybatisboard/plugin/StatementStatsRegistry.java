@@ -0,0 +1,92 @@
+package io.goorm.mybatisboard.plugin;
+
+import io.goorm.mybatisboard.dto.StatementStatsDto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 매핑 구문(statement id)별 실행 통계
+ * 기록은 락 없이 처리하고, reset 시 구간(window)을 통째로 교체하여 이전 구간 통계를 반환
+ */
+@Component
+public class StatementStatsRegistry {
+
+    private final Map<String, AtomicReference<Window>> statements = new ConcurrentHashMap<>();
+
+    public void record(String statementId, long elapsedNanos, long rows) {
+        AtomicReference<Window> window = statements.get(statementId);
+        if (window == null) {
+            window = statements.computeIfAbsent(statementId, id -> new AtomicReference<>(new Window()));
+        }
+        window.get().record(elapsedNanos / 1_000, rows);
+    }
+
+    /**
+     * 현재 구간 통계 (평균 지연시간 내림차순)
+     */
+    public List<StatementStatsDto> snapshot() {
+        List<StatementStatsDto> result = new ArrayList<>();
+        statements.forEach((id, window) -> result.add(window.get().toDto(id)));
+        result.sort(Comparator.comparingDouble(StatementStatsDto::getMeanMicros).reversed());
+        return result;
+    }
+
+    /**
+     * 새 구간을 시작하고 직전 구간 통계를 반환
+     */
+    public List<StatementStatsDto> reset() {
+        List<StatementStatsDto> result = new ArrayList<>();
+        statements.forEach((id, window) -> result.add(window.getAndSet(new Window()).toDto(id)));
+        result.sort(Comparator.comparingDouble(StatementStatsDto::getMeanMicros).reversed());
+        return result;
+    }
+
+    /**
+     * 통계 구간 - 히스토그램, 호출 수, 누적 시간/행 수
+     */
+    private static class Window {
+
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+
+        private void record(long micros, long rowCount) {
+            histogram.record(micros);
+            calls.increment();
+            totalMicros.add(micros);
+            rows.add(rowCount);
+        }
+
+        private StatementStatsDto toDto(String statementId) {
+            long callCount = calls.sum();
+            return new StatementStatsDto(
+                    shortName(statementId),
+                    callCount,
+                    rows.sum(),
+                    callCount > 0 ? (double) totalMicros.sum() / callCount : 0,
+                    histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(99),
+                    histogram.getMax(),
+                    startedAt);
+        }
+    }
+
+    /**
+     * io.goorm.mybatisboard.mapper.PostMapper.findAll → PostMapper.findAll
+     */
+    static String shortName(String statementId) {
+        int method = statementId.lastIndexOf('.');
+        int type = method > 0 ? statementId.lastIndexOf('.', method - 1) : -1;
+        return statementId.substring(type + 1);
+    }
+}
@@ -0,0 +1,86 @@
+package io.goorm.mybatisboard.search;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 바이그램(2-gram) 토크나이저
+ * 형태소 분석 없이 한글/영문/숫자를 글자 단위 2-gram으로 분해하여 부분 문자열 검색을 지원
+ * 예) "게시판 검색" → [게시, 시판, 검색]
+ */
+public final class NgramTokenizer {
+
+    private static final int GRAM = 2;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 토큰별 출현 빈도 계산 (색인용)
+     */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        if (text == null || text.isEmpty()) {
+            return frequencies;
+        }
+        String normalized = normalize(text);
+        int length = normalized.length();
+        int wordStart = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!wordChar && wordStart >= 0) {
+                addGrams(normalized, wordStart, i, frequencies);
+                wordStart = -1;
+            }
+        }
+        return frequencies;
+    }
+
+    /**
+     * 검색어 토큰 추출 - 2글자 미만 단어가 하나라도 있으면 빈 배열 (색인으로 후보를 좁힐 수 없으므로 LIKE로 대체)
+     * 검색어의 모든 단어가 2글자 이상이면 LIKE에 걸리는 게시글은 반드시 이 토큰을 모두 포함 (후보 누락 없음)
+     */
+    public static String[] queryTokens(String keyword) {
+        String normalized = normalize(keyword);
+        Set<String> tokens = new LinkedHashSet<>();
+        int length = normalized.length();
+        int wordStart = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!wordChar && wordStart >= 0) {
+                if (i - wordStart < GRAM) {
+                    return new String[0];
+                }
+                for (int j = wordStart; j + GRAM <= i; j++) {
+                    tokens.add(normalized.substring(j, j + GRAM));
+                }
+                wordStart = -1;
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    /**
+     * 비교용 정규화 (SQL LOWER와 같은 소문자 변환)
+     */
+    public static String normalize(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static void addGrams(String text, int start, int end, Map<String, Integer> frequencies) {
+        if (end - start < GRAM) {
+            frequencies.merge(text.substring(start, end), 1, Integer::sum);
+            return;
+        }
+        for (int i = start; i + GRAM <= end; i++) {
+            frequencies.merge(text.substring(i, i + GRAM), 1, Integer::sum);
+        }
+    }
+}
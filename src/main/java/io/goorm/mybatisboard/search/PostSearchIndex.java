@@ -0,0 +1,378 @@
+package io.goorm.mybatisboard.search;
+
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import io.goorm.mybatisboard.mapper.PostMapper;
+import io.goorm.mybatisboard.model.Post;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/내용 역색인 (인메모리)
+ * LIKE '%kw%' 전체 스캔 대신 2-gram 포스팅 목록 교집합으로 후보 id를 찾고 점수순/작성일순으로 정렬
+ * - 교집합은 후보일 뿐이므로 소문자 원문에 검색어 전체가 들어 있는지 확인하여 LIKE와 같은 결과만 반환
+ * - 시작 시 posts 테이블에서 id 순으로 나누어 새 색인을 만든 뒤 교체 (재구축은 한 번에 하나씩)
+ * - PostService 쓰기 커밋 이후 PostChangedEvent로 증분 갱신, 대량 적재 후 재구축은 별도 스레드에서
+ * - 메모리: 게시글마다 소문자 제목+내용 원문(글자당 1~2바이트)과 2-gram 포스팅 항목을 보관
+ *   원문 글자 수 합계가 max-text-chars를 넘으면 색인을 비우고 DB 검색으로 대체
+ */
+@Component
+@Slf4j
+public class PostSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final PostMapper postMapper;
+    private final long maxTextChars;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+
+    // 재구축 중 도착한 이벤트 - 새 색인으로 교체하기 전에 다시 적용 (재구축 배치가 오래된 값으로 덮어쓰지 않도록)
+    private final List<PostChangedEvent> pendingDuringRebuild = new ArrayList<>();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    // 대량 적재 후 재구축 - 요청 스레드 대신 한 스레드에서, 대기 중인 요청은 하나로 합침
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    public PostSearchIndex(PostMapper postMapper,
+                           @Value("${board.search-index.max-text-chars:100000000}") long maxTextChars) {
+        this.postMapper = postMapper;
+        this.maxTextChars = maxTextChars;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ========== 색인 구축 ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 새 색인을 락 밖에서 만든 뒤 교체 - 재구축 중 검색은 DB로 대체 (대량 적재 직후 누락 방지)
+     */
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            ready = false;
+            pendingDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State rebuilt = new State();
+        boolean complete = true;
+        try {
+            long lastId = 0L;
+            List<Post> batch;
+            do {
+                batch = postMapper.findAllForIndex(lastId, REBUILD_BATCH_SIZE);
+                for (Post post : batch) {
+                    rebuilt.add(post);
+                }
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getId();
+                }
+                if (rebuilt.textChars > maxTextChars) {
+                    complete = false;
+                    break;
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                pendingDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (PostChangedEvent event : pendingDuringRebuild) {
+                rebuilt.apply(event);
+            }
+            pendingDuringRebuild.clear();
+            rebuilding = false;
+            if (!complete || rebuilt.textChars > maxTextChars) {
+                disable(rebuilt.textChars);
+                return;
+            }
+            state = rebuilt;
+            ready = true;
+            log.info("Post search index rebuilt: {} posts, {} title terms, {} content terms, {} chars in {}ms",
+                    rebuilt.posts.size(), rebuilt.titlePostings.size(), rebuilt.contentPostings.size(),
+                    rebuilt.textChars, System.currentTimeMillis() - started);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.BULK_IMPORTED) {
+            requestRebuild();
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                pendingDuringRebuild.add(event);
+            }
+            if (!ready) {
+                return;
+            }
+            state.apply(event);
+            if (state.textChars > maxTextChars) {
+                disable(state.textChars);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재구축 예약 - 이미 대기 중이면 합침 (실행 중인 재구축 이후에 한 번 더 실행)
+     */
+    private void requestRebuild() {
+        if (!rebuildQueued.compareAndSet(false, true)) {
+            return;
+        }
+        rebuildExecutor.execute(() -> {
+            rebuildQueued.set(false);
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Post search index rebuild failed - keyword search falls back to the database", e);
+            }
+        });
+    }
+
+    /**
+     * 메모리 상한 초과 - 색인을 비우고 DB 검색으로 대체 (쓰기 락 보유 상태에서 호출)
+     */
+    private void disable(long textChars) {
+        state = new State();
+        ready = false;
+        log.warn("Post search index disabled: {} chars exceed board.search-index.max-text-chars={} - "
+                + "keyword search falls back to the database", textChars, maxTextChars);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ========== 검색 ==========
+
+    /**
+     * 키워드를 포함하는 게시글 id를 정렬하여 반환
+     * 색인으로 처리할 수 없는 요청(색인 미준비, 2글자 미만 단어가 있는 검색어, 지원하지 않는 정렬)은 null 반환 → 호출자가 DB 검색으로 대체
+     *
+     * @param sortBy created_at(작성일순) 또는 relevance(점수순)만 지원
+     */
+    public List<Long> search(String keyword, String searchType, LocalDate startDate, LocalDate endDate,
+                             String sortBy, String sortDirection) {
+        if (!ready || !supportsSort(sortBy)) {
+            return null;
+        }
+        String[] tokens = NgramTokenizer.queryTokens(keyword);
+        if (tokens.length == 0) {
+            return null;
+        }
+        String normalizedKeyword = NgramTokenizer.normalize(keyword);
+        boolean searchTitle = !"content".equals(searchType);
+        boolean searchContent = !"title".equals(searchType);
+        long from = startDate != null ? toEpochMillis(startDate.atStartOfDay()) : Long.MIN_VALUE;
+        long to = endDate != null ? toEpochMillis(endDate.plusDays(1).atStartOfDay()) : Long.MAX_VALUE;
+
+        List<ScoredPost> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = new HashMap<>();
+            State current = state;
+            if (searchTitle) {
+                collect(current.titlePostings, tokens, TITLE_WEIGHT, scores);
+            }
+            if (searchContent) {
+                collect(current.contentPostings, tokens, 1, scores);
+            }
+            for (Map.Entry<Long, Integer> entry : scores.entrySet()) {
+                IndexedPost post = current.posts.get(entry.getKey());
+                if (post != null && post.createdAt >= from && post.createdAt < to
+                        && post.matches(normalizedKeyword, searchTitle, searchContent)) {
+                    hits.add(new ScoredPost(entry.getKey(), entry.getValue(), post.createdAt));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(comparator(sortBy, sortDirection));
+        List<Long> ids = new ArrayList<>(hits.size());
+        for (ScoredPost hit : hits) {
+            ids.add(hit.id);
+        }
+        return ids;
+    }
+
+    public static boolean supportsSort(String sortBy) {
+        return sortBy == null || "created_at".equals(sortBy) || "relevance".equals(sortBy);
+    }
+
+    /**
+     * 모든 토큰을 포함하는 문서만 점수 합산 - 가장 짧은 포스팅 목록부터 교집합
+     */
+    private void collect(Map<String, Map<Long, Integer>> postings, String[] tokens, int weight,
+                         Map<Long, Integer> scores) {
+        List<Map<Long, Integer>> lists = new ArrayList<>(tokens.length);
+        for (String token : tokens) {
+            Map<Long, Integer> list = postings.get(token);
+            if (list == null) {
+                return;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+
+        Map<Long, Integer> smallest = lists.get(0);
+        for (Map.Entry<Long, Integer> candidate : smallest.entrySet()) {
+            int score = candidate.getValue();
+            boolean matched = true;
+            for (int i = 1; i < lists.size() && matched; i++) {
+                Integer frequency = lists.get(i).get(candidate.getKey());
+                if (frequency == null) {
+                    matched = false;
+                } else {
+                    score += frequency;
+                }
+            }
+            if (matched) {
+                scores.merge(candidate.getKey(), score * weight, Integer::sum);
+            }
+        }
+    }
+
+    private Comparator<ScoredPost> comparator(String sortBy, String sortDirection) {
+        if ("relevance".equals(sortBy)) {
+            return Comparator.comparingInt((ScoredPost hit) -> hit.score).reversed()
+                    .thenComparing(Comparator.comparingLong((ScoredPost hit) -> hit.id).reversed());
+        }
+        Comparator<ScoredPost> byCreatedAt = Comparator.comparingLong((ScoredPost hit) -> hit.createdAt)
+                .thenComparingLong(hit -> hit.id);
+        return "ASC".equals(sortDirection) ? byCreatedAt : byCreatedAt.reversed();
+    }
+
+    // ========== 포스팅 관리 ==========
+
+    /**
+     * 색인 내용 - 재구축 시 새로 만들어 통째로 교체 (교체 전에는 재구축 스레드만, 교체 후에는 쓰기 락을 잡고 변경)
+     */
+    private static final class State {
+
+        private final Map<String, Map<Long, Integer>> titlePostings = new HashMap<>();
+        private final Map<String, Map<Long, Integer>> contentPostings = new HashMap<>();
+        private final Map<Long, IndexedPost> posts = new HashMap<>();
+        private long textChars;     // 보관 중인 소문자 원문 글자 수 합계 (메모리 상한 확인용)
+
+        void apply(PostChangedEvent event) {
+            for (Long postId : event.getAffectedPostIds()) {
+                remove(postId);
+            }
+            if (event.getPost() != null) {
+                add(event.getPost());
+            }
+        }
+
+        void add(Post post) {
+            remove(post.getId());
+            Map<String, Integer> titleTerms = NgramTokenizer.termFrequencies(post.getTitle());
+            Map<String, Integer> contentTerms = NgramTokenizer.termFrequencies(post.getContent());
+            titleTerms.forEach((term, frequency) ->
+                    titlePostings.computeIfAbsent(term, key -> new HashMap<>()).put(post.getId(), frequency));
+            contentTerms.forEach((term, frequency) ->
+                    contentPostings.computeIfAbsent(term, key -> new HashMap<>()).put(post.getId(), frequency));
+
+            long createdAt = post.getCreatedAt() != null ? toEpochMillis(post.getCreatedAt()) : 0L;
+            IndexedPost indexed = new IndexedPost(createdAt,
+                    NgramTokenizer.normalize(post.getTitle()), NgramTokenizer.normalize(post.getContent()));
+            posts.put(post.getId(), indexed);
+            textChars += indexed.title.length() + indexed.content.length();
+        }
+
+        void remove(Long postId) {
+            IndexedPost existing = posts.remove(postId);
+            if (existing == null) {
+                return;
+            }
+            textChars -= existing.title.length() + existing.content.length();
+            removePostings(titlePostings, NgramTokenizer.termFrequencies(existing.title).keySet(), postId);
+            removePostings(contentPostings, NgramTokenizer.termFrequencies(existing.content).keySet(), postId);
+        }
+    }
+
+    private static void removePostings(Map<String, Map<Long, Integer>> postings, Set<String> terms, Long postId) {
+        for (String term : terms) {
+            Map<Long, Integer> list = postings.get(term);
+            if (list != null) {
+                list.remove(postId);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * 색인된 게시글 - 제목/내용은 소문자 원문 (후보 확인 및 삭제 시 토큰 재계산용)
+     */
+    private record IndexedPost(long createdAt, String title, String content) {
+
+        boolean matches(String normalizedKeyword, boolean searchTitle, boolean searchContent) {
+            return (searchTitle && title.contains(normalizedKeyword))
+                    || (searchContent && content.contains(normalizedKeyword));
+        }
+    }
+
+    private record ScoredPost(long id, int score, long createdAt) {
+    }
+}
@@ -0,0 +1,287 @@
+package io.goorm.mybatisboard.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 점수 상위 k개를 노드마다 캐싱하는 압축 트라이(radix tree)
+ * - 간선에 문자열 레이블을 두어 분기 없는 구간은 노드 하나로 표현 (노드 수 ≤ 2 × 키 수)
+ * - 조회는 접두어 길이만큼 내려간 뒤 해당 노드의 상위 목록을 복사하는 것으로 끝남
+ * - 스레드 안전하지 않음 - 호출자가 읽기/쓰기 락으로 보호
+ */
+final class PrefixTrie {
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    private static final Node[] NO_NODES = new Node[0];
+    private static final char[] NO_LABELS = new char[0];
+
+    static final Comparator<Entry> BY_SCORE = Comparator.comparingLong((Entry entry) -> entry.score).reversed()
+            .thenComparing(entry -> entry.text);
+
+    private final int topK;
+    private final Node root = new Node("");
+    private int size;
+
+    PrefixTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * 자동완성 후보 (text: 화면 표시값, score: 정렬 점수)
+     * 점수가 바뀌면 기존 항목을 remove 후 새 항목을 add
+     */
+    record Entry(String text, long score) {
+    }
+
+    int size() {
+        return size;
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 정규화된 접두어로 시작하는 키의 상위 항목 (점수 내림차순)
+     */
+    List<Entry> top(String prefix, int limit) {
+        Node node = find(prefix);
+        if (node == null) {
+            return List.of();
+        }
+        Entry[] top = node.top;
+        return List.of(Arrays.copyOf(top, Math.min(limit, top.length)));
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.child(prefix.charAt(i));
+            if (child == null) {
+                return null;
+            }
+            String label = child.label;
+            int remaining = prefix.length() - i;
+            if (remaining <= label.length()) {
+                return label.regionMatches(0, prefix, i, remaining) ? child : null;
+            }
+            if (!prefix.regionMatches(i, label, 0, label.length())) {
+                return null;
+            }
+            i += label.length();
+            node = child;
+        }
+        return node;
+    }
+
+    // ========== 추가/삭제 ==========
+
+    void add(String key, Entry entry) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            char c = key.charAt(i);
+            Node child = node.child(c);
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.putChild(child);
+                path.add(child);
+                node = child;
+                break;
+            }
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                // 간선 분할 - 중간 노드의 하위 트리는 기존 자식과 같으므로 상위 목록도 그대로 복사
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.putChild(child);
+                middle.top = child.top;
+                node.putChild(middle);
+                child = middle;
+            }
+            path.add(child);
+            node = child;
+            i += common;
+        }
+        node.terminals = append(node.terminals, entry);
+        for (Node visited : path) {
+            visited.offer(entry, topK);
+        }
+        size++;
+    }
+
+    void remove(String key, Entry entry) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return;
+            }
+            path.add(child);
+            node = child;
+            i += child.label.length();
+        }
+        Entry[] remaining = without(node.terminals, entry);
+        if (remaining == node.terminals) {
+            return;
+        }
+        node.terminals = remaining;
+        size--;
+
+        // 아래에서 위로: 빈 노드 제거, 단일 자식 노드 병합, 제거된 항목을 들고 있던 상위 목록 재계산
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            Node current = path.get(depth);
+            if (depth > 0 && current.terminals.length == 0) {
+                Node parent = path.get(depth - 1);
+                if (current.children.length == 0) {
+                    parent.removeChild(current.label.charAt(0));
+                    continue;
+                }
+                if (current.children.length == 1) {
+                    Node only = current.children[0];
+                    only.label = current.label + only.label;
+                    parent.putChild(only);
+                    continue;
+                }
+            }
+            if (contains(current.top, entry)) {
+                current.recompute(topK);
+            }
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    // ========== 배열 유틸 ==========
+
+    private static boolean contains(Entry[] entries, Entry entry) {
+        for (Entry candidate : entries) {
+            if (candidate == entry) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Entry[] append(Entry[] entries, Entry entry) {
+        Entry[] appended = Arrays.copyOf(entries, entries.length + 1);
+        appended[entries.length] = entry;
+        return appended;
+    }
+
+    private static Entry[] without(Entry[] entries, Entry entry) {
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] == entry) {
+                if (entries.length == 1) {
+                    return NO_ENTRIES;
+                }
+                Entry[] removed = new Entry[entries.length - 1];
+                System.arraycopy(entries, 0, removed, 0, i);
+                System.arraycopy(entries, i + 1, removed, i, entries.length - i - 1);
+                return removed;
+            }
+        }
+        return entries;
+    }
+
+    private static final class Node {
+
+        String label;                       // 부모에서 이 노드로 오는 간선 문자열
+        char[] labels = NO_LABELS;          // 자식 간선의 첫 글자 (정렬, 이진 탐색)
+        Node[] children = NO_NODES;
+        Entry[] terminals = NO_ENTRIES;     // 이 노드에서 끝나는 키의 항목
+        Entry[] top = NO_ENTRIES;           // 하위 트리 전체의 점수 상위 k개 (내림차순)
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        /**
+         * 첫 글자가 같은 자식이 있으면 교체, 없으면 정렬 위치에 삽입
+         */
+        void putChild(Node child) {
+            char c = child.label.charAt(0);
+            int index = Arrays.binarySearch(labels, c);
+            if (index >= 0) {
+                children[index] = child;
+                return;
+            }
+            int insertAt = -index - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newLabels[insertAt] = c;
+            newChildren[insertAt] = child;
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        void removeChild(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            if (index < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        /**
+         * 새 항목이 상위 k개에 들면 정렬 위치에 끼워 넣음 (배열은 교체 - 공유 중인 분할 노드에 영향 없음)
+         */
+        void offer(Entry entry, int topK) {
+            if (top.length == topK && BY_SCORE.compare(entry, top[top.length - 1]) >= 0) {
+                return;
+            }
+            int insertAt = Arrays.binarySearch(top, entry, BY_SCORE);
+            if (insertAt < 0) {
+                insertAt = -insertAt - 1;
+            }
+            int length = Math.min(top.length + 1, topK);
+            Entry[] updated = new Entry[length];
+            System.arraycopy(top, 0, updated, 0, insertAt);
+            updated[insertAt] = entry;
+            System.arraycopy(top, insertAt, updated, insertAt + 1, length - insertAt - 1);
+            top = updated;
+        }
+
+        /**
+         * 이 노드의 종료 항목과 자식들의 상위 목록을 합쳐 다시 계산 (자식 목록은 이미 정확하다고 가정)
+         */
+        void recompute(int topK) {
+            List<Entry> candidates = new ArrayList<>(terminals.length + children.length * topK);
+            candidates.addAll(Arrays.asList(terminals));
+            for (Node child : children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(BY_SCORE);
+            top = candidates.subList(0, Math.min(topK, candidates.size())).toArray(NO_ENTRIES);
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package io.goorm.mybatisboard.search;
+
+import io.goorm.mybatisboard.dto.SuggestionDto;
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import io.goorm.mybatisboard.mapper.PostMapper;
+import io.goorm.mybatisboard.model.Post;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제목/작성자 접두어 자동완성 색인 (인메모리)
+ * 키 입력마다 LIKE 'kw%' 쿼리를 보내는 대신 노드마다 조회수 상위 k개를 캐싱한 압축 트라이에서 바로 응답
+ * - 시작 시와 주기적으로 posts 테이블에서 id 순으로 나누어 재구축 (조회수 변동 반영)
+ * - PostService 쓰기 커밋 이후 PostChangedEvent로 증분 갱신, 대량 적재 후 재구축은 별도 스레드에서
+ * - 제목은 같은 제목끼리, 작성자는 작성자별로 묶어 게시글 조회수 합계를 점수로 사용
+ */
+@Component
+@Slf4j
+public class SuggestIndex {
+
+    public static final String TYPE_TITLE = "title";
+    public static final String TYPE_AUTHOR = "author";
+
+    private static final int TOP_K = 10;
+    private static final int MAX_KEY_LENGTH = 50;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final PostMapper postMapper;
+    private final int maxEntries;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state;
+
+    // 재구축 중 도착한 이벤트 - 새 색인으로 교체한 뒤 다시 적용
+    private final List<PostChangedEvent> pendingDuringRebuild = new ArrayList<>();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    // 대량 적재 후 재구축 - 요청 스레드 대신 한 스레드에서, 대기 중인 요청은 하나로 합침
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    public SuggestIndex(PostMapper postMapper,
+                        @Value("${board.suggest.max-entries:200000}") int maxEntries) {
+        this.postMapper = postMapper;
+        this.maxEntries = maxEntries;
+        this.state = new State(maxEntries);
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "suggest-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ========== 색인 구축 ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${board.suggest.refresh-interval-ms:600000}",
+            fixedDelayString = "${board.suggest.refresh-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 새 색인을 락 밖에서 만든 뒤 교체 - 재구축 중에도 기존 색인으로 계속 응답
+     */
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State rebuilt = new State(maxEntries);
+        try {
+            long lastId = 0L;
+            List<Post> batch;
+            do {
+                batch = postMapper.findAllForSuggest(lastId, REBUILD_BATCH_SIZE);
+                for (Post post : batch) {
+                    rebuilt.collect(post);
+                }
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            rebuilt.buildTries();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                pendingDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (PostChangedEvent event : pendingDuringRebuild) {
+                rebuilt.apply(event);
+            }
+            state = rebuilt;
+            pendingDuringRebuild.clear();
+            rebuilding = false;
+            ready = true;
+            log.info("Suggest index rebuilt: {} posts, {} titles, {} authors in {}ms",
+                    rebuilt.posts.size(), rebuilt.titles.trie.size(), rebuilt.authors.trie.size(),
+                    System.currentTimeMillis() - started);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.BULK_IMPORTED) {
+            requestRebuild();
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                pendingDuringRebuild.add(event);
+            }
+            state.apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재구축 예약 - 이미 대기 중이면 합침 (실행 중인 재구축 이후에 한 번 더 실행)
+     */
+    private void requestRebuild() {
+        if (!rebuildQueued.compareAndSet(false, true)) {
+            return;
+        }
+        rebuildExecutor.execute(() -> {
+            rebuildQueued.set(false);
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Suggest index rebuild failed - keeping the previous index", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 접두어 자동완성 - 색인만 읽으므로 JDBC를 사용하지 않음
+     *
+     * @param type title, author 또는 null(둘 다 - 점수순으로 합침)
+     */
+    public List<SuggestionDto> suggest(String query, String type, int limit) {
+        String prefix = normalize(query);
+        int size = Math.max(1, Math.min(limit, TOP_K));
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        List<SuggestionDto> suggestions = new ArrayList<>(size * 2);
+        lock.readLock().lock();
+        try {
+            if (!TYPE_AUTHOR.equals(type)) {
+                addAll(suggestions, TYPE_TITLE, state.titles.trie.top(prefix, size));
+            }
+            if (!TYPE_TITLE.equals(type)) {
+                addAll(suggestions, TYPE_AUTHOR, state.authors.trie.top(prefix, size));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (suggestions.size() > size) {
+            suggestions.sort(Comparator.comparingLong(SuggestionDto::getScore).reversed());
+            return new ArrayList<>(suggestions.subList(0, size));
+        }
+        return suggestions;
+    }
+
+    private static void addAll(List<SuggestionDto> suggestions, String type, List<PrefixTrie.Entry> entries) {
+        for (PrefixTrie.Entry entry : entries) {
+            suggestions.add(new SuggestionDto(type, entry.text(), entry.score()));
+        }
+    }
+
+    /**
+     * 소문자 + 앞뒤 공백 제거 + 연속 공백 하나로, 최대 길이까지만 사용
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_KEY_LENGTH ? normalized.substring(0, MAX_KEY_LENGTH) : normalized;
+    }
+
+    // ========== 색인 상태 (쓰기 락 보유 상태 또는 교체 전 단독 스레드에서 변경) ==========
+
+    private static final class State {
+
+        final Field titles;
+        final Field authors;
+        final Map<Long, IndexedPost> posts = new HashMap<>();
+
+        State(int maxEntries) {
+            this.titles = new Field(maxEntries);
+            this.authors = new Field(maxEntries);
+        }
+
+        /**
+         * 재구축용 - 집계만 하고 트라이는 buildTries()에서 점수 상위부터 채움
+         */
+        void collect(Post post) {
+            IndexedPost indexed = IndexedPost.of(post);
+            posts.put(post.getId(), indexed);
+            titles.aggregate(indexed.titleKey, post.getTitle(), indexed.viewCount, 1);
+            authors.aggregate(indexed.authorKey, post.getAuthorName(), indexed.viewCount, 1);
+        }
+
+        void buildTries() {
+            titles.fill();
+            authors.fill();
+        }
+
+        void apply(PostChangedEvent event) {
+            for (Long postId : event.getAffectedPostIds()) {
+                IndexedPost existing = posts.remove(postId);
+                if (existing != null) {
+                    titles.contribute(existing.titleKey, null, -existing.viewCount, -1);
+                    authors.contribute(existing.authorKey, null, -existing.viewCount, -1);
+                }
+            }
+            Post post = event.getPost();
+            if (post != null) {
+                IndexedPost indexed = IndexedPost.of(post);
+                posts.put(post.getId(), indexed);
+                titles.contribute(indexed.titleKey, post.getTitle(), indexed.viewCount, 1);
+                authors.contribute(indexed.authorKey, post.getAuthorName(), indexed.viewCount, 1);
+            }
+        }
+    }
+
+    /**
+     * 필드(제목/작성자)별 집계와 트라이
+     * 항목 수가 maxEntries를 넘으면 재구축 시 점수 하위 항목은 트라이에 넣지 않음 (다음 재구축 때 다시 평가)
+     */
+    private static final class Field {
+
+        final PrefixTrie trie = new PrefixTrie(TOP_K);
+        final Map<String, Aggregate> aggregates = new HashMap<>();
+        final int maxEntries;
+
+        Field(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        void aggregate(String key, String display, long score, int posts) {
+            if (key.isEmpty()) {
+                return;
+            }
+            Aggregate aggregate = aggregates.computeIfAbsent(key, k -> new Aggregate(display.trim()));
+            aggregate.score += score;
+            aggregate.posts += posts;
+        }
+
+        void fill() {
+            List<Map.Entry<String, Aggregate>> ranked = new ArrayList<>(aggregates.entrySet());
+            if (ranked.size() > maxEntries) {
+                ranked.sort(Comparator.comparingLong((Map.Entry<String, Aggregate> e) -> e.getValue().score).reversed());
+                ranked = ranked.subList(0, maxEntries);
+            }
+            for (Map.Entry<String, Aggregate> candidate : ranked) {
+                Aggregate aggregate = candidate.getValue();
+                aggregate.entry = new PrefixTrie.Entry(aggregate.display, aggregate.score);
+                trie.add(candidate.getKey(), aggregate.entry);
+            }
+        }
+
+        /**
+         * 증분 반영 - 기존 항목을 빼고 새 점수로 다시 넣음
+         */
+        void contribute(String key, String display, long score, int posts) {
+            if (key.isEmpty()) {
+                return;
+            }
+            Aggregate aggregate = aggregates.get(key);
+            if (aggregate == null) {
+                if (posts <= 0) {
+                    return;
+                }
+                aggregate = new Aggregate(display.trim());
+                aggregates.put(key, aggregate);
+            }
+            boolean indexed = aggregate.entry != null;
+            if (indexed) {
+                trie.remove(key, aggregate.entry);
+                aggregate.entry = null;
+            }
+            aggregate.score = Math.max(0L, aggregate.score + score);
+            aggregate.posts += posts;
+            if (aggregate.posts <= 0) {
+                aggregates.remove(key);
+                return;
+            }
+            if (indexed || trie.size() < maxEntries) {
+                aggregate.entry = new PrefixTrie.Entry(aggregate.display, aggregate.score);
+                trie.add(key, aggregate.entry);
+            }
+        }
+    }
+
+    private static final class Aggregate {
+
+        final String display;       // 처음 색인된 원문 (표시용)
+        long score;                 // 게시글 조회수 합계
+        int posts;                  // 묶인 게시글 수
+        PrefixTrie.Entry entry;     // 트라이에 들어간 항목 (제외된 경우 null)
+
+        Aggregate(String display) {
+            this.display = display;
+        }
+    }
+
+    private record IndexedPost(String titleKey, String authorKey, long viewCount) {
+
+        static IndexedPost of(Post post) {
+            return new IndexedPost(normalize(post.getTitle()), normalize(post.getAuthorName()),
+                    post.getViewCount() != null ? post.getViewCount() : 0L);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.goorm.mybatisboard.service;
+
+import io.goorm.mybatisboard.dto.CategoryPostCountDto;
+import io.goorm.mybatisboard.dto.CategoryStatsReconcileResultDto;
+import io.goorm.mybatisboard.mapper.CategoryPostStatsMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 카테고리/상태별 게시글 수 요약(category_post_stats) 조회와 대조
+ * 요약은 게시글 쓰기 트랜잭션에서 증감하지만, 파티션 삭제나 직접 SQL 수정 등으로 어긋날 수 있으므로
+ * 주기적으로 카테고리 하나씩(청크) 실제 개수와 비교하여 보정
+ * - 대상은 categories + 요약 행의 카테고리 (posts 전체 UNION 없음)
+ * - 먼저 잠금 없이 카테고리별 상태 개수(idx_posts_category_status 범위)와 요약을 비교하고, 다른 카테고리만 잠금 후 다시 셈
+ */
+@Service
+@Slf4j
+public class CategoryPostStatsService {
+
+    private final CategoryPostStatsMapper categoryPostStatsMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public CategoryPostStatsService(CategoryPostStatsMapper categoryPostStatsMapper,
+                                    PlatformTransactionManager transactionManager) {
+        this.categoryPostStatsMapper = categoryPostStatsMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public List<CategoryPostCountDto> findAll() {
+        return categoryPostStatsMapper.findAll();
+    }
+
+    @Scheduled(initialDelayString = "${board.category-stats.reconcile-interval-ms:3600000}",
+               fixedDelayString = "${board.category-stats.reconcile-interval-ms:3600000}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 전체 대조 - 요약과 다른 카테고리만 카테고리마다 짧은 트랜잭션 하나 (긴 잠금 없이 쓰기와 번갈아 진행)
+     */
+    public synchronized CategoryStatsReconcileResultDto reconcile() {
+        long started = System.currentTimeMillis();
+        Map<Long, Map<String, Long>> recorded = new HashMap<>();
+        for (CategoryPostCountDto row : categoryPostStatsMapper.findAllForReconcile()) {
+            if (row.getPostCount() != 0) {
+                recorded.computeIfAbsent(row.getCategoryId(), key -> new HashMap<>())
+                        .put(row.getStatus(), row.getPostCount());
+            }
+        }
+        List<Long> categoryIds = categoryPostStatsMapper.findCategoryIds();
+        int rescanned = 0;
+        int repaired = 0;
+        long drift = 0;
+        for (Long categoryId : categoryIds) {
+            if (countsOf(categoryPostStatsMapper.countPostsByCategory(categoryId))
+                    .equals(recorded.getOrDefault(categoryId, Map.of()))) {
+                continue;
+            }
+            // 동시 쓰기로 잠깐 달라 보였을 수도 있으므로 요약 행을 잠근 뒤 다시 세어 확정
+            rescanned++;
+            long[] result = transactionTemplate.execute(status -> reconcileCategory(categoryId));
+            if (result != null) {
+                repaired += (int) result[0];
+                drift += result[1];
+            }
+        }
+        long elapsed = System.currentTimeMillis() - started;
+        if (repaired > 0) {
+            log.warn("Category post stats drift repaired: {} rows, {} posts across {} categories in {}ms",
+                    repaired, drift, rescanned, elapsed);
+        } else {
+            log.debug("Category post stats reconciled: {} categories ({} rescanned), no drift ({}ms)",
+                    categoryIds.size(), rescanned, elapsed);
+        }
+        return new CategoryStatsReconcileResultDto(categoryIds.size(), rescanned, repaired, drift, elapsed);
+    }
+
+    /**
+     * 상태별 개수 맵 (0건 상태 제외 - 요약에 남은 0행과 같게 비교)
+     */
+    private static Map<String, Long> countsOf(List<CategoryPostCountDto> rows) {
+        Map<String, Long> counts = new HashMap<>();
+        for (CategoryPostCountDto row : rows) {
+            if (row.getPostCount() != 0) {
+                counts.put(row.getStatus(), row.getPostCount());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 한 카테고리 대조 - 요약 행을 먼저 잠가 대조 중의 증감이 보정값에 덮이지 않도록 함
+     *
+     * @return {보정한 행 수, 차이 합계}
+     */
+    private long[] reconcileCategory(Long categoryId) {
+        Map<String, Long> recorded = new HashMap<>();
+        for (CategoryPostCountDto row : categoryPostStatsMapper.findByCategoryForUpdate(categoryId)) {
+            recorded.put(row.getStatus(), row.getPostCount());
+        }
+        Map<String, Long> actual = new HashMap<>();
+        for (CategoryPostCountDto row : categoryPostStatsMapper.countPostsByCategory(categoryId)) {
+            actual.put(row.getStatus(), row.getPostCount());
+        }
+
+        TreeSet<String> statuses = new TreeSet<>(recorded.keySet());
+        statuses.addAll(actual.keySet());
+        long repaired = 0;
+        long drift = 0;
+        for (String status : statuses) {
+            long expected = actual.getOrDefault(status, 0L);
+            long current = recorded.getOrDefault(status, 0L);
+            if (expected != current) {
+                categoryPostStatsMapper.setCount(categoryId, status, expected);
+                repaired++;
+                drift += Math.abs(expected - current);
+            }
+        }
+        return new long[]{repaired, drift};
+    }
+}
@@ -1,13 +1,19 @@
 package io.goorm.mybatisboard.service;
 
+import io.goorm.mybatisboard.cache.CategoryCache;
 import io.goorm.mybatisboard.dto.CategoryDto;
 import io.goorm.mybatisboard.dto.CategorySearchConditionDto;
+import io.goorm.mybatisboard.dto.CountedCategoryDto;
 import io.goorm.mybatisboard.dto.PageDto;
 import io.goorm.mybatisboard.mapper.CategoryMapper;
+import io.goorm.mybatisboard.support.ParallelReads;
+import io.goorm.mybatisboard.support.WindowPageHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -16,15 +22,36 @@ import java.util.List;
 public class CategoryService {
     
     private final CategoryMapper categoryMapper;
+    private final CountService countService;
+    private final CategoryCache categoryCache;
+    private final ParallelReads parallelReads;
     
     /**
-     * 통합 검색 - 핵심 메서드 (PostService와 동일한 패턴)
+     * 통합 검색 - 핵심 메서드 (PostService와 동일한 패턴, 목록과 카운트 병렬 조회)
+     * 트랜잭션 없이 실행하므로 단일 조회도 ParallelReads의 읽기 전용 트랜잭션으로 감싸 복제본으로 라우팅
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PageDto<CategoryDto> findAllWithConditions(CategorySearchConditionDto condition) {
-        List<CategoryDto> categories = categoryMapper.findAllWithConditions(condition);
-        int totalCount = categoryMapper.countAllWithConditions(condition);
+        condition.normalizeSortDirection();
+        if (countService.isWindowed()) {
+            return parallelReads.single(() -> findAllWithConditionsCounted(condition));
+        }
         
-        return PageDto.of(categories, condition.getPage(), condition.getSize(), totalCount);
+        ParallelReads.Both<List<CategoryDto>, Integer> result = parallelReads.both(
+                () -> categoryMapper.findAllWithConditions(condition),
+                () -> countService.countCategories(condition));
+        
+        return PageDto.of(result.first(), condition.getPage(), condition.getSize(), result.second());
+    }
+    
+    private PageDto<CategoryDto> findAllWithConditionsCounted(CategorySearchConditionDto condition) {
+        WindowPageHandler<CountedCategoryDto> handler = new WindowPageHandler<>();
+        categoryMapper.findAllWithConditionsCounted(condition, handler);
+        long total = handler.isEmpty() && condition.getOffset() > 0
+                ? countService.countCategories(condition)
+                : handler.getTotal();
+        List<CategoryDto> categories = new ArrayList<>(handler.getRows());
+        return PageDto.of(categories, condition.getPage(), condition.getSize(), total);
     }
     
     /**
@@ -33,7 +60,7 @@ public class CategoryService {
     public PageDto<CategoryDto> findAll(int page, int size) {
         int offset = Math.max(0, (page - 1) * size);
         List<CategoryDto> categories = categoryMapper.findAll(offset, size);
-        int totalCount = categoryMapper.countAll();
+        int totalCount = countService.countCategories();
         
         return PageDto.of(categories, page, size, totalCount);
     }
@@ -42,7 +69,7 @@ public class CategoryService {
      * 활성 카테고리 목록 조회 (게시글 작성용)
      */
     public List<CategoryDto> getActiveCategories() {
-        return categoryMapper.findActiveCategories();
+        return categoryCache.getActiveCategories();
     }
     
     
@@ -0,0 +1,185 @@
+package io.goorm.mybatisboard.service;
+
+import io.goorm.mybatisboard.dto.CategorySearchConditionDto;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import io.goorm.mybatisboard.mapper.CategoryMapper;
+import io.goorm.mybatisboard.mapper.PostMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 페이징용 전체 개수 캐시
+ * 정규화한 검색 조건을 키로 COUNT 결과를 보관하고, 게시글 쓰기 커밋 시 세대(generation) 증가로 일괄 무효화
+ * - exact 모드: 정확한 COUNT(*) 결과를 캐시
+ * - estimated 모드: 상한(estimate-threshold)까지만 세고 넘으면 "상한+"로 표시
+ * - window 모드: 통합 검색은 목록 조회에 COUNT(*) OVER()를 붙여 한 번에 처리 (그 외 목록은 exact와 동일)
+ */
+@Service
+@Slf4j
+public class CountService {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final PostMapper postMapper;
+    private final CategoryMapper categoryMapper;
+    private final boolean estimated;
+    private final boolean windowed;
+    private final int estimateThreshold;
+    private final long ttlMillis;
+
+    private final Map<String, CachedCount> postCounts = new ConcurrentHashMap<>();
+    private final Map<String, CachedCount> categoryCounts = new ConcurrentHashMap<>();
+    private final AtomicLong postGeneration = new AtomicLong();
+
+    public CountService(PostMapper postMapper,
+                        CategoryMapper categoryMapper,
+                        @Value("${board.count.mode:exact}") String mode,
+                        @Value("${board.count.estimate-threshold:10000}") int estimateThreshold,
+                        @Value("${board.count.ttl-seconds:60}") long ttlSeconds) {
+        this.postMapper = postMapper;
+        this.categoryMapper = categoryMapper;
+        this.estimated = "estimated".equalsIgnoreCase(mode);
+        this.windowed = "window".equalsIgnoreCase(mode);
+        this.estimateThreshold = estimateThreshold;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 통합 검색 페이지와 전체 개수를 단일 조회(COUNT(*) OVER())로 가져올지 여부
+     */
+    public boolean isWindowed() {
+        return windowed;
+    }
+
+    // ========== 게시글 개수 ==========
+
+    public TotalCount countPosts() {
+        return countPost("all", postMapper::countAllCapped, postMapper::countAll);
+    }
+
+    public TotalCount countPosts(String searchType, String keyword) {
+        String key = "search|" + searchType + "|" + keyword;
+        return countPost(key,
+                limit -> postMapper.countAllWithSearchCapped(searchType, keyword, limit),
+                () -> postMapper.countAllWithSearch(searchType, keyword));
+    }
+
+    public TotalCount countPosts(SearchConditionDto condition) {
+        return countPost(conditionKey(condition),
+                limit -> {
+                    condition.applyCountLimit(limit);
+                    return postMapper.countAllWithConditionsCapped(condition);
+                },
+                () -> postMapper.countAllWithConditions(condition));
+    }
+
+    /**
+     * 게시글 쓰기 커밋 후 게시글 개수 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        postGeneration.incrementAndGet();
+        postCounts.clear();
+    }
+
+    // ========== 카테고리 개수 (쓰기 경로가 없으므로 TTL로만 만료) ==========
+
+    public int countCategories() {
+        return countCategory("all", categoryMapper::countAll);
+    }
+
+    public int countCategories(CategorySearchConditionDto condition) {
+        String key = "cond|" + normalizeKeyword(condition.getKeyword()) + "|"
+                + (condition.hasKeyword() ? condition.getSearchType() : "") + "|" + condition.getIsActive();
+        return countCategory(key, () -> categoryMapper.countAllWithConditions(condition));
+    }
+
+    // ========== 내부 처리 ==========
+
+    private TotalCount countPost(String key, IntUnaryOperator cappedCounter, IntSupplier exactCounter) {
+        long generation = postGeneration.get();
+        long now = System.currentTimeMillis();
+        CachedCount cached = postCounts.get(key);
+        if (cached != null && cached.generation == generation && cached.expiresAt > now) {
+            return cached.count;
+        }
+
+        TotalCount count;
+        if (estimated) {
+            int counted = cappedCounter.applyAsInt(estimateThreshold + 1);
+            count = counted > estimateThreshold
+                    ? new TotalCount(estimateThreshold, false)
+                    : new TotalCount(counted, true);
+        } else {
+            count = new TotalCount(exactCounter.getAsInt(), true);
+        }
+        log.debug("Counted posts for key [{}]: {} (exact={})", key, count.getValue(), count.isExact());
+
+        // 세기 도중 쓰기가 커밋되었으면 캐시하지 않음
+        if (generation == postGeneration.get()) {
+            evictIfFull(postCounts);
+            postCounts.put(key, new CachedCount(count, generation, now + ttlMillis));
+        }
+        return count;
+    }
+
+    private int countCategory(String key, IntSupplier counter) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = categoryCounts.get(key);
+        if (cached != null && cached.expiresAt > now) {
+            return (int) cached.count.getValue();
+        }
+        int counted = counter.getAsInt();
+        evictIfFull(categoryCounts);
+        categoryCounts.put(key, new CachedCount(new TotalCount(counted, true), 0, now + ttlMillis));
+        return counted;
+    }
+
+    /**
+     * 통합 검색 카운트 키 - COUNT 쿼리의 WHERE에 영향을 주는 조건만 사용
+     */
+    private static String conditionKey(SearchConditionDto condition) {
+        return "cond|" + normalizeKeyword(condition.getKeyword()) + "|"
+                + (condition.hasKeyword() ? condition.getSearchType() : "") + "|"
+                + condition.getStartDate() + "|" + condition.getEndDate();
+    }
+
+    private static String normalizeKeyword(String keyword) {
+        return keyword != null ? keyword.trim().toLowerCase() : "";
+    }
+
+    private static void evictIfFull(Map<String, CachedCount> cache) {
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * 전체 개수 - exact가 false면 value는 상한값이며 실제로는 그보다 많음
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class TotalCount {
+        private final long value;
+        private final boolean exact;
+    }
+
+    @AllArgsConstructor
+    private static class CachedCount {
+        private final TotalCount count;
+        private final long generation;
+        private final long expiresAt;
+    }
+}
@@ -0,0 +1,155 @@
+package io.goorm.mybatisboard.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.mapper.PostMapper;
+import io.goorm.mybatisboard.model.Post;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글 스트리밍 내보내기
+ * MyBatis Cursor로 한 행씩 읽어 바로 응답 스트림에 쓰므로 테이블 크기와 무관하게 힙 사용량이 일정
+ * Cursor는 세션(트랜잭션)이 열려 있는 동안만 유효하므로 스트리밍 전체를 하나의 읽기 트랜잭션으로 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostExportService {
+
+    public static final String FORMAT_NDJSON = "ndjson";
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_SSE = "sse";
+
+    // 첫 행은 바로, 이후 이 행 수마다 내보내 첫 바이트까지의 시간을 줄임
+    private static final int FLUSH_ROWS = 500;
+
+    private static final String[] CSV_COLUMNS = {
+            "id", "title", "content", "created_at", "updated_at",
+            "category_id", "status", "author_name", "view_count", "is_notice"
+    };
+
+    private final PostMapper postMapper;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long export(SearchConditionDto condition, String format, OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        long exported;
+        try (Cursor<Post> cursor = postMapper.streamAll(condition)) {
+            if (FORMAT_CSV.equals(format)) {
+                exported = writeCsv(cursor, out);
+            } else if (FORMAT_SSE.equals(format)) {
+                exported = writeSse(cursor, out);
+            } else {
+                exported = writeNdjson(cursor, out);
+            }
+        }
+        log.info("Exported {} posts as {} in {}ms", exported, format, System.currentTimeMillis() - started);
+        return exported;
+    }
+
+    private long writeNdjson(Cursor<Post> cursor, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        ObjectWriter rowWriter = rowWriter();
+        long count = 0;
+        for (Post post : cursor) {
+            rowWriter.writeValue(generator, post);
+            generator.writeRaw('\n');
+            count++;
+            if (count == 1 || count % FLUSH_ROWS == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+        return count;
+    }
+
+    /**
+     * Server-Sent Events - 행마다 "data: {json}" 이벤트, 마지막에 건수를 담은 end 이벤트
+     */
+    private long writeSse(Cursor<Post> cursor, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        ObjectWriter rowWriter = rowWriter();
+        long count = 0;
+        for (Post post : cursor) {
+            generator.writeRaw("id: " + post.getId() + "\ndata: ");
+            rowWriter.writeValue(generator, post);
+            generator.writeRaw("\n\n");
+            count++;
+            if (count == 1 || count % FLUSH_ROWS == 0) {
+                generator.flush();
+            }
+        }
+        generator.writeRaw("event: end\ndata: " + count + "\n\n");
+        generator.flush();
+        return count;
+    }
+
+    /**
+     * 행마다 출력 스트림을 flush하지 않도록 FLUSH_AFTER_WRITE_VALUE를 끈 writer
+     */
+    private ObjectWriter rowWriter() {
+        return objectMapper.writerFor(Post.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private long writeCsv(Cursor<Post> cursor, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write(String.join(",", CSV_COLUMNS));
+        writer.write("\r\n");
+        long count = 0;
+        for (Post post : cursor) {
+            writer.write(String.valueOf(post.getId()));
+            writeField(writer, post.getTitle());
+            writeField(writer, post.getContent());
+            writeField(writer, post.getCreatedAt());
+            writeField(writer, post.getUpdatedAt());
+            writeField(writer, post.getCategoryId());
+            writeField(writer, post.getStatus());
+            writeField(writer, post.getAuthorName());
+            writeField(writer, post.getViewCount());
+            writeField(writer, post.getIsNotice());
+            writer.write("\r\n");
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * 쉼표/따옴표/줄바꿈이 있으면 큰따옴표로 감싸고 내부 따옴표는 ""로 이스케이프
+     */
+    private static void writeField(Writer writer, Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean needsQuote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!needsQuote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,242 @@
+package io.goorm.mybatisboard.service;
+
+import io.goorm.mybatisboard.dto.PostModerationResultDto;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import io.goorm.mybatisboard.mapper.CategoryPostStatsMapper;
+import io.goorm.mybatisboard.mapper.PostMapper;
+import io.goorm.mybatisboard.model.Post;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 게시글 일괄 관리 (스팸 정리 등)
+ * - 일괄 삭제: id 목록 또는 검색 조건에 맞는 게시글을 청크(짧은 트랜잭션)마다 UPDATE 한 문장으로 소프트 삭제
+ * - 영구 삭제: 보존 기간이 지난 소프트 삭제 행을 한가한 시간대에 작은 배치로 나누어 DELETE
+ * 청크마다 잠금 조회한 카테고리/상태로 요약(category_post_stats)을 같은 트랜잭션에서 증감
+ */
+@Service
+@Slf4j
+public class PostModerationService {
+
+    private final PostMapper postMapper;
+    private final CategoryPostStatsMapper categoryPostStatsMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int purgeBatchSize;
+    private final int purgeMaxBatches;
+    private final long purgePauseMillis;
+    private final Duration purgeRetention;
+
+    public PostModerationService(PostMapper postMapper,
+                                 CategoryPostStatsMapper categoryPostStatsMapper,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${board.moderation.chunk-size:500}") int chunkSize,
+                                 @Value("${board.moderation.purge.batch-size:200}") int purgeBatchSize,
+                                 @Value("${board.moderation.purge.max-batches:1000}") int purgeMaxBatches,
+                                 @Value("${board.moderation.purge.pause-ms:50}") long purgePauseMillis,
+                                 @Value("${board.moderation.purge.retention-hours:24}") long purgeRetentionHours) {
+        this.postMapper = postMapper;
+        this.categoryPostStatsMapper = categoryPostStatsMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.purgeBatchSize = purgeBatchSize;
+        this.purgeMaxBatches = purgeMaxBatches;
+        this.purgePauseMillis = purgePauseMillis;
+        this.purgeRetention = Duration.ofHours(purgeRetentionHours);
+    }
+
+    // ========== 일괄 소프트 삭제 ==========
+
+    /**
+     * id 목록 일괄 삭제 - id 순으로 청크마다 트랜잭션 하나
+     */
+    public PostModerationResultDto softDelete(List<Long> ids) {
+        long started = System.currentTimeMillis();
+        List<Long> sorted = new ArrayList<>(new TreeSet<>(ids != null ? ids : List.of()));
+        long deleted = 0;
+        int chunks = 0;
+        for (int from = 0; from < sorted.size(); from += chunkSize) {
+            List<Long> chunk = sorted.subList(from, Math.min(sorted.size(), from + chunkSize));
+            deleted += softDeleteInTransaction(chunk);
+            chunks++;
+        }
+        return finished("delete", deleted, chunks, started);
+    }
+
+    /**
+     * 검색 조건 일괄 삭제 - 대상 id를 잠금 없이 id 순 청크로 찾고, 청크마다 잠금 조회 후 삭제
+     * 조건이 비어 있으면 전체 삭제가 되므로 거부
+     */
+    public PostModerationResultDto softDelete(SearchConditionDto condition) {
+        condition.validateAndCorrect();
+        if (condition.isEmpty()) {
+            throw new RuntimeException("삭제 조건이 없습니다. 검색 조건을 하나 이상 지정해 주세요.");
+        }
+        log.info("Bulk soft delete by condition: {}", condition.getSummary());
+
+        long started = System.currentTimeMillis();
+        long deleted = 0;
+        int chunks = 0;
+        long afterId = 0;
+        while (true) {
+            condition.applyChunk(afterId, chunkSize);
+            List<Long> ids = postMapper.findIdsForModeration(condition);
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+            deleted += softDeleteInTransaction(ids);
+            chunks++;
+        }
+        return finished("delete", deleted, chunks, started);
+    }
+
+    private long softDeleteInTransaction(List<Long> ids) {
+        Long deleted = transactionTemplate.execute(status -> softDeleteChunk(ids));
+        return deleted != null ? deleted : 0;
+    }
+
+    /**
+     * 한 청크 삭제 - 행 잠금 → UPDATE → 요약 이동(이전 상태 -1, DELETED +1) → 커밋 후 캐시/색인 갱신 이벤트 (청크당 하나)
+     */
+    private long softDeleteChunk(List<Long> ids) {
+        List<Post> live = new ArrayList<>();
+        for (Post post : postMapper.findByIdsForUpdate(ids)) {
+            if (!PostService.isDeleted(post)) {
+                live.add(post);
+            }
+        }
+        if (live.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> liveIds = live.stream().map(Post::getId).toList();
+        int updated = postMapper.softDeleteByIds(liveIds, LocalDateTime.now());
+
+        Map<Long, Map<String, Long>> statsDeltas = new TreeMap<>();
+        for (Post post : live) {
+            if (post.getCategoryId() == null) {
+                continue;
+            }
+            Map<String, Long> byStatus = statsDeltas.computeIfAbsent(post.getCategoryId(), key -> new TreeMap<>());
+            if (post.getStatus() != null) {
+                byStatus.merge(post.getStatus(), -1L, Long::sum);
+            }
+            byStatus.merge(PostService.STATUS_DELETED, 1L, Long::sum);
+        }
+        applyStatsDeltas(statsDeltas);
+
+        eventPublisher.publishEvent(PostChangedEvent.bulkDeleted(liveIds));
+        return updated;
+    }
+
+    // ========== 영구 삭제 ==========
+
+    /**
+     * 한가한 시간대에만 실행 (기본 매일 03~05시, 10분마다)
+     */
+    @Scheduled(cron = "${board.moderation.purge.cron:0 */10 3-5 * * *}")
+    public void scheduledPurge() {
+        purge();
+    }
+
+    /**
+     * 보존 기간이 지난 소프트 삭제 행을 id 순 작은 배치로 DELETE
+     * 배치마다 짧은 트랜잭션 + 잠깐 쉬어 읽기/쓰기와 번갈아 진행, 한 번에 max-batches까지만 처리
+     * 삭제된 행은 이미 목록/검색/개수에서 빠져 있으므로 캐시 갱신 이벤트는 발행하지 않음
+     */
+    public synchronized PostModerationResultDto purge() {
+        long started = System.currentTimeMillis();
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(purgeRetention);
+        long purged = 0;
+        int batches = 0;
+        long afterId = 0;
+        while (batches < purgeMaxBatches) {
+            List<Long> ids = postMapper.findIdsForPurge(deletedBefore, afterId, purgeBatchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+            Long count = transactionTemplate.execute(status -> purgeBatch(ids));
+            purged += count != null ? count : 0;
+            batches++;
+            if (!pause()) {
+                break;
+            }
+        }
+        return finished("purge", purged, batches, started);
+    }
+
+    private long purgeBatch(List<Long> ids) {
+        List<Long> deletedIds = new ArrayList<>();
+        Map<Long, Map<String, Long>> statsDeltas = new TreeMap<>();
+        for (Post post : postMapper.findByIdsForUpdate(ids)) {
+            if (PostService.isDeleted(post)) {
+                deletedIds.add(post.getId());
+                if (post.getCategoryId() != null) {
+                    statsDeltas.computeIfAbsent(post.getCategoryId(), key -> new TreeMap<>())
+                            .merge(PostService.STATUS_DELETED, -1L, Long::sum);
+                }
+            }
+        }
+        if (deletedIds.isEmpty()) {
+            return 0;
+        }
+        int purged = postMapper.purgeByIds(deletedIds);
+        applyStatsDeltas(statsDeltas);
+        return purged;
+    }
+
+    private boolean pause() {
+        if (purgePauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(purgePauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // ========== 공통 ==========
+
+    /**
+     * 요약 증감 반영 (카테고리, 상태 순서로 잠금 - PostService와 같은 순서)
+     */
+    private void applyStatsDeltas(Map<Long, Map<String, Long>> statsDeltas) {
+        statsDeltas.forEach((categoryId, byStatus) -> byStatus.forEach((status, delta) -> {
+            if (delta != 0) {
+                categoryPostStatsMapper.adjust(categoryId, status, delta);
+            }
+        }));
+    }
+
+    private PostModerationResultDto finished(String action, long affected, int chunks, long started) {
+        long elapsed = System.currentTimeMillis() - started;
+        if (affected > 0) {
+            log.info("Post moderation {}: {} posts in {} chunks ({}ms)", action, affected, chunks, elapsed);
+        } else {
+            log.debug("Post moderation {}: nothing to do ({}ms)", action, elapsed);
+        }
+        return new PostModerationResultDto(action, affected, chunks, elapsed);
+    }
+}
@@ -0,0 +1,137 @@
+package io.goorm.mybatisboard.service;
+
+import io.goorm.mybatisboard.dto.PostPartitionDto;
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import io.goorm.mybatisboard.mapper.PostPartitionMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * posts 월 파티션 롤링 (MariaDB 전용, maria 프로필에서 활성화)
+ * V7은 p_history, 2026년 월 파티션, p_future(MAXVALUE)로 만들어지며 이후 월 파티션은 이 서비스가 추가
+ * - 이번 달부터 months-ahead(최소 1) 개월 뒤까지 월 파티션이 있도록 p_future를 나누어 추가
+ *   (REORGANIZE PARTITION이라 롤링이 밀려 p_future에 들어간 행도 해당 월 파티션으로 옮겨짐)
+ * - retention-months > 0이면 그보다 오래된 월 파티션을 삭제 (DROP PARTITION - 행 단위 DELETE 없이 즉시)
+ * 파티션 DDL은 트랜잭션 밖에서 실행 (암묵적 커밋)
+ */
+@Service
+@ConditionalOnProperty(name = "board.partition.enabled", havingValue = "true")
+@Slf4j
+public class PostPartitionService {
+
+    public static final String FUTURE_PARTITION = "p_future";
+
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter BOUNDARY = DateTimeFormatter.ofPattern("yyyy-MM-'01 00:00:00'");
+
+    private final PostPartitionMapper postPartitionMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategoryPostStatsService categoryPostStatsService;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public PostPartitionService(PostPartitionMapper postPartitionMapper,
+                                ApplicationEventPublisher eventPublisher,
+                                CategoryPostStatsService categoryPostStatsService,
+                                @Value("${board.partition.months-ahead:3}") int monthsAhead,
+                                @Value("${board.partition.retention-months:0}") int retentionMonths) {
+        this.postPartitionMapper = postPartitionMapper;
+        this.eventPublisher = eventPublisher;
+        this.categoryPostStatsService = categoryPostStatsService;
+        if (monthsAhead < 1) {
+            log.warn("board.partition.months-ahead={} is too small, using 1 (next month must exist before it starts)",
+                    monthsAhead);
+        }
+        this.monthsAhead = Math.max(1, monthsAhead);
+        this.retentionMonths = retentionMonths;
+    }
+
+    public List<PostPartitionDto> findPartitions() {
+        return postPartitionMapper.findPartitions();
+    }
+
+    /**
+     * 시작 시 한 번, 이후 매일 파티션 롤링
+     * 실패해도 기동은 계속하고 다음 주기에 다시 시도 (그동안 새 행은 p_future에 저장됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${board.partition.roll-cron:0 10 0 * * *}")
+    public void scheduledRoll() {
+        try {
+            roll();
+        } catch (RuntimeException e) {
+            log.error("Post partition roll failed, will retry on next schedule", e);
+        }
+    }
+
+    /**
+     * 파티션 롤링 - 롤링 후 파티션 목록 반환
+     */
+    public synchronized List<PostPartitionDto> roll() {
+        List<PostPartitionDto> partitions = postPartitionMapper.findPartitions();
+        if (partitions.stream().noneMatch(partition -> FUTURE_PARTITION.equals(partition.getName()))) {
+            log.warn("posts table is not partitioned by month (no {} partition), skipping roll", FUTURE_PARTITION);
+            return partitions;
+        }
+
+        TreeSet<YearMonth> months = new TreeSet<>();
+        for (PostPartitionDto partition : partitions) {
+            YearMonth month = monthOf(partition.getName());
+            if (month != null) {
+                months.add(month);
+            }
+        }
+
+        YearMonth current = YearMonth.now();
+        YearMonth next = months.isEmpty() ? current : months.last().plusMonths(1);
+        if (!next.isAfter(current.plusMonths(1))) {
+            // 이번 달 또는 다음 달 파티션이 없음 - 롤링이 밀렸거나 꺼져 있었음
+            log.warn("Post partitions end before {} - rows from {} are stored in {}, adding monthly partitions now",
+                    current.plusMonths(1), next, FUTURE_PARTITION);
+        }
+        int added = 0;
+        for (YearMonth month = next; !month.isAfter(current.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            postPartitionMapper.addPartition(month.format(PARTITION_MONTH), month.plusMonths(1).format(BOUNDARY));
+            added++;
+        }
+
+        int dropped = 0;
+        if (retentionMonths > 0) {
+            YearMonth oldest = current.minusMonths(retentionMonths);
+            for (YearMonth month : months.headSet(oldest)) {
+                postPartitionMapper.dropPartition(month.format(PARTITION_MONTH));
+                dropped++;
+            }
+        }
+
+        if (added > 0 || dropped > 0) {
+            log.info("Rolled post partitions: {} added, {} dropped", added, dropped);
+        }
+        if (dropped > 0) {
+            // 삭제된 행은 개별 이벤트가 없으므로 색인/캐시 전체 갱신, 카테고리별 게시글 수 요약 보정
+            eventPublisher.publishEvent(PostChangedEvent.bulkImported());
+            categoryPostStatsService.reconcile();
+        }
+        return postPartitionMapper.findPartitions();
+    }
+
+    private static YearMonth monthOf(String partitionName) {
+        try {
+            return YearMonth.parse(partitionName, PARTITION_MONTH);
+        } catch (DateTimeParseException e) {
+            return null;   // p_history, p_future
+        }
+    }
+}
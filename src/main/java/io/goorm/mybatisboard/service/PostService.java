@@ -1,21 +1,40 @@
 package io.goorm.mybatisboard.service;
 
+import io.goorm.mybatisboard.cache.CategoryCache;
+import io.goorm.mybatisboard.cache.PagePrefetcher;
+import io.goorm.mybatisboard.cache.SearchResultCache;
+import io.goorm.mybatisboard.dto.CountedPostWithDetailsDto;
 import io.goorm.mybatisboard.dto.PageDto;
+import io.goorm.mybatisboard.dto.PostCursor;
 import io.goorm.mybatisboard.dto.PostDetailDto;
 import io.goorm.mybatisboard.dto.PostFormDto;
 import io.goorm.mybatisboard.dto.PostListDto;
 import io.goorm.mybatisboard.dto.SearchConditionDto;
 import io.goorm.mybatisboard.dto.PostWithDetailsDto;
 import io.goorm.mybatisboard.dto.CategoryDto;
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import io.goorm.mybatisboard.mapper.CategoryPostStatsMapper;
 import io.goorm.mybatisboard.mapper.PostMapper;
 import io.goorm.mybatisboard.model.Post;
+import io.goorm.mybatisboard.search.PostSearchIndex;
+import io.goorm.mybatisboard.support.ParallelReads;
+import io.goorm.mybatisboard.support.WindowPageHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,27 +43,45 @@ import java.util.stream.Collectors;
 @Slf4j
 public class PostService {
 
+    // 소프트 삭제 상태 - 목록/검색/상세에서 제외, PostModerationService가 보존 기간 이후 영구 삭제
+    static final String STATUS_DELETED = "DELETED";
+
     private final PostMapper postMapper;
+    private final CategoryPostStatsMapper categoryPostStatsMapper;
+    private final PostSearchIndex postSearchIndex;
+    private final CountService countService;
+    private final ViewCountService viewCountService;
+    private final CategoryCache categoryCache;
+    private final ParallelReads parallelReads;
+    private final PagePrefetcher pagePrefetcher;
+    private final SearchResultCache searchResultCache;
+    private final ObjectProvider<PostService> self;     // 미리 조회 시 트랜잭션 프록시를 거치도록
+    private final ApplicationEventPublisher eventPublisher;
 
     public PageDto<PostListDto> findAll(int page, int size) {
+        PageDto<PostListDto> result = pagePrefetcher.getOrLoad(PagePrefetcher.listKey(page, size), () -> loadAll(page, size));
+        if (result.hasNext()) {
+            pagePrefetcher.prefetch(PagePrefetcher.listKey(page + 1, size), () -> self.getObject().findAll(page + 1, size));
+        }
+        return result;
+    }
+
+    private PageDto<PostListDto> loadAll(int page, int size) {
         log.debug("Finding posts with pagination: page={}, size={}", page, size);
 
-        // 전체 데이터 수 조회
-        int totalElements = postMapper.countAll();
-        log.debug("Total posts count: {}", totalElements);
+        // 전체 데이터 수 조회 (캐시)
+        CountService.TotalCount total = countService.countPosts();
+        log.debug("Total posts count: {} (exact={})", total.getValue(), total.isExact());
 
         // OFFSET 계산 (페이지는 1부터 시작)
         int offset = (page - 1) * size;
 
-        // 페이징된 데이터 조회
-        List<Post> posts = postMapper.findAll(offset, size);
+        // 페이징된 데이터 조회 (목록 컬럼만, content 제외)
+        List<PostListDto> posts = postMapper.findAll(offset, size);
         log.debug("Found {} posts for page {}", posts.size(), page);
 
-        List<PostListDto> postListDtos = posts.stream()
-                .map(this::convertToListDto)
-                .collect(Collectors.toList());
-
-        return PageDto.of(postListDtos, page, size, totalElements);
+        decorateList(posts);
+        return PageDto.of(posts, page, size, total.getValue(), !total.isExact());
     }
 
     public PageDto<PostListDto> findAll(int page, int size, String searchType, String keyword) {
@@ -58,32 +95,73 @@ public class PostService {
         // 검색어 전처리
         String trimmedKeyword = keyword.trim();
 
-        // 검색 조건에 따른 전체 데이터 수 조회
-        int totalElements = postMapper.countAllWithSearch(searchType, trimmedKeyword);
-        log.debug("Total search results count: {} for keyword: {}", totalElements, trimmedKeyword);
+        // 역색인으로 처리 가능하면 LIKE 전체 스캔 대신 색인 결과 id를 PK로 조회
+        List<Long> hits = postSearchIndex.search(trimmedKeyword, searchType, null, null, "created_at", "DESC");
+        if (hits != null) {
+            log.debug("Search index matched {} posts for keyword: {}", hits.size(), trimmedKeyword);
+            List<Long> pageIds = pageOf(hits, (page - 1) * size, size);
+            List<PostListDto> posts = pageIds.isEmpty() ? List.of()
+                    : inIdOrder(pageIds, postMapper.findListByIds(pageIds), PostListDto::getId);
+            decorateList(posts);
+            return PageDto.of(posts, page, size, hits.size());
+        }
+
+        // 검색 조건에 따른 전체 데이터 수 조회 (캐시)
+        CountService.TotalCount total = countService.countPosts(searchType, trimmedKeyword);
+        log.debug("Total search results count: {} for keyword: {}", total.getValue(), trimmedKeyword);
 
         // OFFSET 계산 (페이지는 1부터 시작)
         int offset = (page - 1) * size;
 
         // 검색 조건에 따른 페이징된 데이터 조회
-        List<Post> posts = postMapper.findAllWithSearch(searchType, trimmedKeyword, offset, size);
+        List<PostListDto> posts = postMapper.findAllWithSearch(searchType, trimmedKeyword, offset, size);
         log.debug("Found {} search results for page {}", posts.size(), page);
 
-        List<PostListDto> postListDtos = posts.stream()
-                .map(this::convertToListDto)
-                .collect(Collectors.toList());
+        decorateList(posts);
+        return PageDto.of(posts, page, size, total.getValue(), !total.isExact());
+    }
 
-        return PageDto.of(postListDtos, page, size, totalElements);
+    /**
+     * 키셋(seek) 페이지네이션 - 목록/검색 (created_at DESC, id DESC)
+     * OFFSET 스캔과 COUNT 없이 커서 이후 행만 읽으므로 페이지 깊이와 무관하게 일정한 지연시간
+     */
+    public PageDto<PostListDto> findAllByCursor(String cursor, String direction, int size,
+                                                String searchType, String keyword) {
+        PageDto<PostListDto> result = pagePrefetcher.getOrLoad(
+                PagePrefetcher.listCursorKey(cursor, direction, size, searchType, keyword),
+                () -> loadAllByCursor(cursor, direction, size, searchType, keyword));
+        String next = result.getNextCursor();
+        if (next != null) {
+            pagePrefetcher.prefetch(PagePrefetcher.listCursorKey(next, "next", size, searchType, keyword),
+                    () -> self.getObject().findAllByCursor(next, "next", size, searchType, keyword));
+        }
+        return result;
+    }
+
+    private PageDto<PostListDto> loadAllByCursor(String cursor, String direction, int size,
+                                                 String searchType, String keyword) {
+        log.debug("Finding posts with cursor: cursor={}, direction={}, size={}, keyword={}", cursor, direction, size, keyword);
+
+        PostCursor keyset = PostCursor.decode(cursor, "created_at", "DESC", "prev".equals(direction));
+        String trimmedKeyword = keyword != null ? keyword.trim() : null;
+
+        List<PostListDto> posts = postMapper.findAllByCursor(searchType, trimmedKeyword, keyset, size + 1);
+        log.debug("Found {} posts after cursor", posts.size());
+
+        PageDto<PostListDto> page = toCursorPage(posts, size, keyset, PostListDto::getCreatedAt, PostListDto::getId);
+        decorateList(page.getContent());
+        return page;
     }
 
     public PostDetailDto findBySeq(Long seq) {
         log.debug("Finding post by seq: {}", seq);
         Post post = postMapper.findById(seq);
-        if (post == null) {
+        if (post == null || isDeleted(post)) {
             log.error("Post not found with seq: {}", seq);
             throw new RuntimeException("게시글을 찾을 수 없습니다. ID: " + seq);
         }
         log.debug("Found post: {} (seq: {})", post.getTitle(), seq);
+        viewCountService.increment(seq);
         return convertToDetailDto(post);
     }
 
@@ -105,15 +183,22 @@ public class PostService {
         post.setIsNotice(postFormDto.getIsNotice() != null ? postFormDto.getIsNotice() : false);
 
         postMapper.save(post);
+        adjustCategoryStats(post.getCategoryId(), post.getStatus(), 1);
+        eventPublisher.publishEvent(PostChangedEvent.created(post));
         log.info("Post saved successfully with title: {}", postFormDto.getTitle());
         return post;
     }
 
+    /**
+     * 수정 - 행을 먼저 잠가 동시 삭제와 직렬화, 상태는 건드리지 않음
+     * 잠금 이후에 삭제된 행은 UPDATE 조건(status <> 'DELETED')에서 빠지므로 영향 행 수로 실패 처리
+     */
     @Transactional
     public Post update(Long seq, PostFormDto postFormDto) {
         log.debug("Updating post seq: {} with title: {}", seq, postFormDto.getTitle());
-        Post existingPost = postMapper.findById(seq);
-        if (existingPost == null) {
+        List<Post> locked = postMapper.findByIdsForUpdate(List.of(seq));
+        Post existingPost = locked.isEmpty() ? null : locked.get(0);
+        if (existingPost == null || isDeleted(existingPost)) {
             log.error("Post not found for update with seq: {}", seq);
             throw new RuntimeException("게시글을 찾을 수 없습니다. ID: " + seq);
         }
@@ -125,54 +210,112 @@ public class PostService {
 
         // 확장 필드 설정 (폼에서 입력받거나 기존값 유지)
         updatePost.setCategoryId(postFormDto.getCategoryId() != null ? postFormDto.getCategoryId() : existingPost.getCategoryId());
-        updatePost.setStatus(existingPost.getStatus());
         updatePost.setAuthorName(postFormDto.getAuthorName() != null && !postFormDto.getAuthorName().trim().isEmpty()
                 ? postFormDto.getAuthorName() : existingPost.getAuthorName());
-        updatePost.setViewCount(existingPost.getViewCount());
         updatePost.setIsNotice(postFormDto.getIsNotice() != null ? postFormDto.getIsNotice() : existingPost.getIsNotice());
 
-        postMapper.update(seq, updatePost);
+        if (postMapper.update(seq, updatePost) == 0) {
+            log.error("Post deleted during update seq: {}", seq);
+            throw new RuntimeException("게시글을 찾을 수 없습니다. ID: " + seq);
+        }
+        Post movedPost = new Post();
+        movedPost.setCategoryId(updatePost.getCategoryId());
+        movedPost.setStatus(existingPost.getStatus());
+        moveCategoryStats(existingPost, movedPost);
+        Post updated = postMapper.findById(seq);
+        eventPublisher.publishEvent(PostChangedEvent.updated(updated));
         log.info("Post updated successfully seq: {}, title: {}", seq, postFormDto.getTitle());
-        return postMapper.findById(seq);
+        return updated;
     }
 
+    /**
+     * 소프트 삭제 - 행은 남기고 상태만 DELETED로 (영구 삭제는 PostModerationService.purge)
+     * 행을 먼저 잠가 동시 삭제/수정 중에도 요약 증감이 한 번만 일어나도록 함
+     */
     @Transactional
     public void delete(Long seq) {
         log.debug("Deleting post seq: {}", seq);
-        Post existingPost = postMapper.findById(seq);
-        if (existingPost == null) {
+        List<Post> locked = postMapper.findByIdsForUpdate(List.of(seq));
+        Post existingPost = locked.isEmpty() ? null : locked.get(0);
+        if (existingPost == null || isDeleted(existingPost)) {
             log.error("Post not found for deletion with seq: {}", seq);
             throw new RuntimeException("게시글을 찾을 수 없습니다. ID: " + seq);
         }
-        postMapper.delete(seq);
-        log.info("Post deleted successfully seq: {}, title: {}", seq, existingPost.getTitle());
+        postMapper.softDeleteByIds(List.of(seq), LocalDateTime.now());
+
+        Post deletedPost = new Post();
+        deletedPost.setCategoryId(existingPost.getCategoryId());
+        deletedPost.setStatus(STATUS_DELETED);
+        moveCategoryStats(existingPost, deletedPost);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(seq));
+        log.info("Post deleted successfully seq: {}", seq);
     }
 
-    private PostListDto convertToListDto(Post post) {
-        PostListDto dto = new PostListDto();
-        dto.setId(post.getId());
-        dto.setTitle(post.getTitle());
-        dto.setCreatedAt(post.getCreatedAt());
+    static boolean isDeleted(Post post) {
+        return STATUS_DELETED.equals(post.getStatus());
+    }
 
-        dto.setCategoryId(post.getCategoryId());
-        dto.setCategoryName(getCategoryName(post.getCategoryId()));
-        dto.setStatus(post.getStatus());
-        dto.setAuthorName(post.getAuthorName());
-        dto.setViewCount(post.getViewCount());
-        dto.setIsNotice(post.getIsNotice());
+    /**
+     * 카테고리/상태별 게시글 수 요약 증감 (게시글 쓰기와 같은 트랜잭션)
+     */
+    private void adjustCategoryStats(Long categoryId, String status, long delta) {
+        if (categoryId != null && status != null) {
+            categoryPostStatsMapper.adjust(categoryId, status, delta);
+        }
+    }
 
-        return dto;
+    /**
+     * 카테고리/상태가 바뀌었으면 이전 행 -1, 새 행 +1
+     * 동시 수정 간 교착을 피하도록 항상 (카테고리, 상태) 순서로 잠금
+     */
+    private void moveCategoryStats(Post before, Post after) {
+        if (Objects.equals(before.getCategoryId(), after.getCategoryId())
+                && Objects.equals(before.getStatus(), after.getStatus())) {
+            return;
+        }
+        Comparator<Post> lockOrder = Comparator.comparing(Post::getCategoryId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Post::getStatus, Comparator.nullsFirst(Comparator.naturalOrder()));
+        if (lockOrder.compare(before, after) <= 0) {
+            adjustCategoryStats(before.getCategoryId(), before.getStatus(), -1);
+            adjustCategoryStats(after.getCategoryId(), after.getStatus(), 1);
+        } else {
+            adjustCategoryStats(after.getCategoryId(), after.getStatus(), 1);
+            adjustCategoryStats(before.getCategoryId(), before.getStatus(), -1);
+        }
+    }
+
+    /**
+     * 목록 결과에 미반영 조회수와 카테고리명(캐시) 적용
+     */
+    private void decorateList(List<PostListDto> posts) {
+        for (PostListDto post : posts) {
+            post.setViewCount(withPendingViews(post.getId(), post.getViewCount()));
+            post.setCategoryName(getCategoryName(post.getCategoryId()));
+        }
     }
 
     private String getCategoryName(Long categoryId) {
-        if (categoryId == null) return "미분류";
-        switch (categoryId.intValue()) {
-            case 1: return "공지사항";
-            case 2: return "일반";
-            case 3: return "질문";
-            case 4: return "정보공유";
-            case 5: return "자유게시판";
-            default: return "미분류";
+        return categoryCache.nameOf(categoryId);
+    }
+
+    /**
+     * DB 조회수 + 아직 반영되지 않은 조회수 증가분
+     */
+    private Integer withPendingViews(Long postId, Integer viewCount) {
+        long pending = viewCountService.pendingDelta(postId);
+        if (pending == 0) {
+            return viewCount;
+        }
+        return (int) ((viewCount != null ? viewCount : 0) + pending);
+    }
+
+    /**
+     * 통합 검색 결과에 미반영 조회수와 카테고리명(캐시) 적용
+     */
+    private void decorate(List<PostWithDetailsDto> posts) {
+        for (PostWithDetailsDto post : posts) {
+            post.setViewCount(withPendingViews(post.getId(), post.getViewCount()));
+            post.setCategoryName(getCategoryName(post.getCategoryId()));
         }
     }
 
@@ -186,7 +329,7 @@ public class PostService {
         dto.setCategoryName(getCategoryName(post.getCategoryId()));
         dto.setStatus(post.getStatus());
         dto.setAuthorName(post.getAuthorName());
-        dto.setViewCount(post.getViewCount());
+        dto.setViewCount(withPendingViews(post.getId(), post.getViewCount()));
         dto.setIsNotice(post.getIsNotice());
 
         return dto;
@@ -194,30 +337,193 @@ public class PostService {
 
     // ========== 통합 검색 시스템 ==========
 
+    /**
+     * 통합 검색 - 카운트와 목록은 서로 독립적이므로 각자의 읽기 전용 커넥션으로 병렬 조회
+     * 요청 스레드가 커넥션을 쥔 채 기다리지 않도록 트랜잭션 없이 실행
+     * 각 조회는 ParallelReads의 읽기 전용 트랜잭션으로 감싸 복제본으로 라우팅 (트랜잭션 밖 조회는 주 DB로 감)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PageDto<PostWithDetailsDto> findAllWithConditions(SearchConditionDto condition) {
+        condition.validateAndCorrect();
+        PageDto<PostWithDetailsDto> result = pagePrefetcher.getOrLoad(PagePrefetcher.searchKey(condition),
+                () -> searchWithConditions(condition));
+        if (result.hasNext()) {
+            SearchConditionDto next = condition.toBuilder().page(condition.getPage() + 1).build();
+            pagePrefetcher.prefetch(PagePrefetcher.searchKey(next), () -> self.getObject().findAllWithConditions(next));
+        }
+        return result;
+    }
+
+    /**
+     * 검색 결과 캐시(정규화 조건 → id 목록 + 전체 개수)에 있으면 id로 PK 조회만 수행
+     */
+    private PageDto<PostWithDetailsDto> searchWithConditions(SearchConditionDto condition) {
+        String key = SearchResultCache.keyOf(condition);
+        SearchResultCache.CachedResult cached = searchResultCache.get(key);
+        if (cached != null) {
+            log.debug("Search result cache hit: {} ids, total={}", cached.ids().length, cached.total());
+            List<Long> ids = cached.idList();
+            List<PostWithDetailsDto> posts = ids.isEmpty() ? List.of()
+                    : inIdOrder(ids, parallelReads.single(() -> postMapper.findAllWithConditionsByIds(ids)),
+                            PostWithDetailsDto::getId);
+            decorate(posts);
+            return PageDto.of(posts, condition.getPage(), condition.getSize(), cached.total(), cached.estimated());
+        }
+
+        long generation = searchResultCache.generation();
+        PageDto<PostWithDetailsDto> result = loadWithConditions(condition);
+        searchResultCache.put(key, generation, result.getContent(), PostWithDetailsDto::getId,
+                result.getTotalElements(), result.isTotalEstimated());
+        return result;
+    }
+
+    private PageDto<PostWithDetailsDto> loadWithConditions(SearchConditionDto condition) {
         log.debug("Finding posts with integrated search conditions: {}", condition.getSummary());
 
-        condition.validateAndCorrect();
+        // 키워드 검색은 역색인으로 처리 (색인 미준비/지원하지 않는 정렬이면 DB 검색)
+        if (condition.hasKeyword()) {
+            List<Long> hits = postSearchIndex.search(condition.getKeyword().trim(), condition.getSearchType(),
+                    condition.getStartDate(), condition.getEndDate(), condition.getSortBy(), condition.getSortDirection());
+            if (hits != null) {
+                log.debug("Search index matched {} posts with conditions", hits.size());
+                List<Long> pageIds = pageOf(hits, condition.getOffset(), condition.getSize());
+                List<PostWithDetailsDto> posts = pageIds.isEmpty() ? List.of()
+                        : inIdOrder(pageIds, parallelReads.single(() -> postMapper.findAllWithConditionsByIds(pageIds)),
+                                PostWithDetailsDto::getId);
+                decorate(posts);
+                return PageDto.of(posts, condition.getPage(), condition.getSize(), hits.size());
+            }
+        }
 
-        int totalElements = postMapper.countAllWithConditions(condition);
-        log.debug("Total posts count with conditions: {}", totalElements);
+        // 단일 조회 모드 - 목록과 전체 개수를 COUNT(*) OVER()로 한 번에
+        if (countService.isWindowed()) {
+            return parallelReads.single(() -> findAllWithConditionsCounted(condition));
+        }
 
-        List<PostWithDetailsDto> posts = postMapper.findAllWithConditions(condition);
+        ParallelReads.Both<CountService.TotalCount, List<PostWithDetailsDto>> result = parallelReads.both(
+                () -> countService.countPosts(condition),
+                () -> postMapper.findAllWithConditions(condition));
+        CountService.TotalCount total = result.first();
+        List<PostWithDetailsDto> posts = result.second();
+        log.debug("Total posts count with conditions: {} (exact={})", total.getValue(), total.isExact());
         log.debug("Found {} posts for page {}", posts.size(), condition.getPage());
 
-        return PageDto.of(posts, condition.getPage(), condition.getSize(), totalElements);
+        decorate(posts);
+        return PageDto.of(posts, condition.getPage(), condition.getSize(), total.getValue(), !total.isExact());
+    }
+
+    /**
+     * 통합 검색 - 목록 + 전체 개수 단일 왕복
+     * 마지막 페이지를 넘어 행이 없으면 전체 개수를 알 수 없으므로 카운트 쿼리로 보완
+     */
+    private PageDto<PostWithDetailsDto> findAllWithConditionsCounted(SearchConditionDto condition) {
+        WindowPageHandler<CountedPostWithDetailsDto> handler = new WindowPageHandler<>();
+        postMapper.findAllWithConditionsCounted(condition, handler);
+
+        long total = handler.isEmpty() && condition.getOffset() > 0
+                ? countService.countPosts(condition).getValue()
+                : handler.getTotal();
+        log.debug("Found {} posts for page {} with window count: {}", handler.getRows().size(), condition.getPage(), total);
+
+        List<PostWithDetailsDto> posts = new ArrayList<>(handler.getRows());
+        decorate(posts);
+        return PageDto.of(posts, condition.getPage(), condition.getSize(), total);
+    }
+
+    /**
+     * 통합 검색 - 키셋(seek) 페이지네이션
+     * SearchConditionDto의 모든 sortBy 옵션에 대해 (정렬값, id) 커서로 다음/이전 페이지 조회
+     */
+    public PageDto<PostWithDetailsDto> findAllWithConditionsByCursor(SearchConditionDto condition) {
+        condition.validateAndCorrect();
+        PageDto<PostWithDetailsDto> result = pagePrefetcher.getOrLoad(PagePrefetcher.searchKey(condition),
+                () -> searchWithConditionsByCursor(condition));
+        if (result.getNextCursor() != null) {
+            SearchConditionDto next = condition.toBuilder().cursor(result.getNextCursor()).direction("next").build();
+            pagePrefetcher.prefetch(PagePrefetcher.searchKey(next), () -> self.getObject().findAllWithConditionsByCursor(next));
+        }
+        return result;
+    }
+
+    private PageDto<PostWithDetailsDto> searchWithConditionsByCursor(SearchConditionDto condition) {
+        log.debug("Finding posts with integrated search conditions by cursor: {}", condition.getSummary());
+
+        PostCursor keyset = condition.resolveKeyset();
+
+        List<PostWithDetailsDto> posts = postMapper.findAllWithConditionsByCursor(condition);
+        log.debug("Found {} posts after cursor", posts.size());
+
+        Function<PostWithDetailsDto, Object> sortValue;
+        switch (keyset.getSortBy()) {
+            case "title": sortValue = PostWithDetailsDto::getTitle; break;
+            case "view_count": sortValue = PostWithDetailsDto::getViewCount; break;
+            case "author_name": sortValue = PostWithDetailsDto::getAuthor; break;
+            default: sortValue = PostWithDetailsDto::getCreatedAt;
+        }
+        // 커서는 DB 값 기준으로 만들고, 화면 표시값에만 미반영 조회수를 더함
+        PageDto<PostWithDetailsDto> page = toCursorPage(posts, condition.getSize(), keyset, sortValue, PostWithDetailsDto::getId);
+        decorate(page.getContent());
+        return page;
+    }
+
+    /**
+     * size + 1건 조회 결과를 커서 페이지로 변환
+     * 이전 방향 조회는 역순으로 읽었으므로 뒤집어서 반환
+     */
+    private <T> PageDto<T> toCursorPage(List<T> rows, int size, PostCursor keyset,
+                                        Function<T, Object> sortValue, Function<T, Long> id) {
+        boolean hasMore = rows.size() > size;
+        List<T> content = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+        if (keyset.isBackward()) {
+            Collections.reverse(content);
+        }
+        if (content.isEmpty()) {
+            return PageDto.ofCursor(content, size, null, null);
+        }
+
+        boolean hasNext = keyset.isBackward() || hasMore;
+        boolean hasPrevious = keyset.isBackward() ? hasMore : !keyset.isFirst();
+
+        T first = content.get(0);
+        T last = content.get(content.size() - 1);
+        String nextCursor = hasNext ? keyset.tokenFor(sortValue.apply(last), id.apply(last)) : null;
+        String previousCursor = hasPrevious ? keyset.tokenFor(sortValue.apply(first), id.apply(first)) : null;
+
+        return PageDto.ofCursor(content, size, nextCursor, previousCursor);
+    }
+
+    private static List<Long> pageOf(List<Long> ids, int offset, int size) {
+        if (offset >= ids.size()) {
+            return List.of();
+        }
+        return ids.subList(offset, Math.min(ids.size(), offset + size));
+    }
+
+    /**
+     * IN 조회 결과를 색인 순위(id 목록) 순서로 재정렬
+     */
+    private static <T> List<T> inIdOrder(List<Long> ids, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> byId = rows.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T row = byId.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
     }
 
     public List<CategoryDto> findAllCategories() {
         log.debug("Finding all categories");
-        List<CategoryDto> categories = postMapper.findAllCategories();
+        List<CategoryDto> categories = categoryCache.getAllCategories();
         log.debug("Found {} categories", categories.size());
         return categories;
     }
 
     public List<CategoryDto> findActiveCategories() {
         log.debug("Finding active categories");
-        List<CategoryDto> categories = postMapper.findActiveCategories();
+        List<CategoryDto> categories = categoryCache.getActiveCategories();
         log.debug("Found {} active categories", categories.size());
         return categories;
     }
@@ -0,0 +1,123 @@
+package io.goorm.mybatisboard.service;
+
+import io.goorm.mybatisboard.mapper.PostViewCountMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 지연 쓰기(write-behind)
+ * 조회마다 UPDATE 하지 않고 게시글별 LongAdder(스트라이프, 락 없음)에 누적한 뒤
+ * 주기적으로 UPDATE ... CASE 한 문장씩 묶어서 반영. 종료 시에도 남은 값을 반영
+ * 반영이 커밋되면 PostMapper 2차 캐시도 비워짐 (PostViewCountMapper가 cache-ref로 공유)
+ */
+@Service
+@Slf4j
+public class ViewCountService {
+
+    private static final int MAX_TRACKED_POSTS = 100_000;
+
+    private final PostViewCountMapper postViewCountMapper;
+    private final int batchSize;
+
+    private volatile ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 교체된 이전 맵 - 교체 직전에 증가시킨 스레드의 값까지 다음 반영 때 한 번 더 수거
+    private volatile ConcurrentHashMap<Long, LongAdder> retired = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ViewCountService(PostViewCountMapper postViewCountMapper,
+                            @Value("${board.view-count.batch-size:500}") int batchSize) {
+        this.postViewCountMapper = postViewCountMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 조회수 1 증가 (메모리 누적)
+     */
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분 - 조회 결과에 더해서 보여줌
+     */
+    public long pendingDelta(Long postId) {
+        LongAdder current = pending.get(postId);
+        LongAdder old = retired.get(postId);
+        return (current != null ? current.sum() : 0L) + (old != null ? old.sum() : 0L);
+    }
+
+    /**
+     * 누적된 증가분을 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            int flushed = drain(retired);
+            retired = new ConcurrentHashMap<>();
+            if (pending.size() > MAX_TRACKED_POSTS) {
+                retired = pending;
+                pending = new ConcurrentHashMap<>();
+                flushed += drain(retired);
+            } else {
+                flushed += drain(pending);
+            }
+            if (flushed > 0) {
+                log.debug("Flushed view counts for {} posts", flushed);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing pending view counts before shutdown");
+        flush();
+    }
+
+    /**
+     * 누적값을 읽은 만큼만 차감(add(-delta))하므로 반영 중 들어온 증가분은 유실되지 않음
+     */
+    private int drain(Map<Long, LongAdder> counters) {
+        Map<Long, Long> chunk = new LinkedHashMap<>();
+        int flushed = 0;
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta == 0) {
+                continue;
+            }
+            entry.getValue().add(-delta);
+            chunk.put(entry.getKey(), delta);
+            if (chunk.size() >= batchSize) {
+                flushed += write(chunk);
+                chunk = new LinkedHashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flushed += write(chunk);
+        }
+        return flushed;
+    }
+
+    private int write(Map<Long, Long> deltas) {
+        try {
+            postViewCountMapper.incrementViewCounts(deltas);
+            return deltas.size();
+        } catch (RuntimeException e) {
+            // 실패한 증가분은 되돌려 다음 반영 때 재시도
+            log.error("Failed to flush view counts for {} posts", deltas.size(), e);
+            deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            return 0;
+        }
+    }
+}
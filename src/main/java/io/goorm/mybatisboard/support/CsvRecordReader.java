@@ -0,0 +1,88 @@
+package io.goorm.mybatisboard.support;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 최소한의 RFC 4180 CSV 레코드 리더
+ * 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈/이스케이프("")를 지원하며 한 레코드씩 스트리밍으로 읽음
+ */
+public class CsvRecordReader {
+
+    private final Reader reader;
+    private int next = -2;   // 미리 읽은 문자 (-2: 없음)
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드 - 입력이 끝나면 null
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    int peek = read();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = peek;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else {
+                if (c == -1 || c == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '\r') {
+                    int peek = read();
+                    if (peek != '\n') {
+                        unread(peek);
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else {
+                    field.append((char) c);
+                }
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (next != -2) {
+            int c = next;
+            next = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        next = c;
+    }
+}
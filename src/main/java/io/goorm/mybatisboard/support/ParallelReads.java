@@ -0,0 +1,103 @@
+package io.goorm.mybatisboard.support;
+
+import io.goorm.mybatisboard.datasource.ReadYourWrites;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 서로 독립적인 조회를 병렬로 실행 (목록 + 카운트 등)
+ * - 각 조회는 별도 스레드에서 자체 읽기 전용 트랜잭션(커넥션)으로 실행
+ * - 하나가 실패하면 나머지를 취소(인터럽트)하고 실패 원인을 그대로 던짐
+ * - 실행기는 크기가 제한되어 있으며 포화 시 호출 스레드에서 직접 실행 (순차 실행으로 저하)
+ * - 요청 스레드의 주 DB 고정(ReadYourWrites) 여부를 작업 스레드에 전달
+ * - 병렬이 아닌 단일 조회도 single()로 같은 읽기 전용 트랜잭션을 써서 복제본으로 라우팅
+ */
+@Component
+public class ParallelReads {
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ParallelReads(PlatformTransactionManager transactionManager,
+                         @Value("${board.parallel-reads.threads:16}") int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "parallel-read-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 두 조회를 동시에 실행하고 둘 다 끝나면 반환 - 지연시간은 합이 아니라 둘 중 긴 쪽
+     * 호출자는 트랜잭션 밖에서 호출해야 함 (요청 스레드가 커넥션을 쥔 채 대기하지 않도록)
+     */
+    public <A, B> Both<A, B> both(Supplier<A> first, Supplier<B> second) {
+        ExecutorCompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+        Supplier<A> firstRead = ReadYourWrites.propagate(first);
+        Supplier<B> secondRead = ReadYourWrites.propagate(second);
+        Future<Object> firstFuture = completion.submit(() -> readOnlyTransaction.execute(status -> firstRead.get()));
+        Future<Object> secondFuture = completion.submit(() -> readOnlyTransaction.execute(status -> secondRead.get()));
+        try {
+            // 먼저 끝난 쪽이 실패했으면 나머지를 기다리지 않고 취소
+            for (int i = 0; i < 2; i++) {
+                completion.take().get();
+            }
+            @SuppressWarnings("unchecked")
+            A firstResult = (A) firstFuture.get();
+            @SuppressWarnings("unchecked")
+            B secondResult = (B) secondFuture.get();
+            return new Both<>(firstResult, secondResult);
+        } catch (ExecutionException e) {
+            firstFuture.cancel(true);
+            secondFuture.cancel(true);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException("병렬 조회 중 오류가 발생했습니다.", cause);
+        } catch (InterruptedException | CancellationException e) {
+            firstFuture.cancel(true);
+            secondFuture.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("병렬 조회가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 단일 조회를 호출 스레드에서 읽기 전용 트랜잭션으로 실행
+     * 트랜잭션 밖(NOT_SUPPORTED) 조회는 주 DB로 가므로, 복제본으로 보낼 읽기는 이 메서드로 감쌈
+     */
+    public <T> T single(Supplier<T> read) {
+        return readOnlyTransaction.execute(status -> read.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public record Both<A, B>(A first, B second) {
+    }
+}
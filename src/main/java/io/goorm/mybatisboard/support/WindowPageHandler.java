@@ -0,0 +1,42 @@
+package io.goorm.mybatisboard.support;
+
+import io.goorm.mybatisboard.dto.WindowCounted;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 페이지 행과 COUNT(*) OVER() 전체 개수를 분리하는 결과 핸들러
+ * 목록 + 카운트 두 번 왕복하던 조회를 한 문장으로 처리할 때 사용
+ */
+public class WindowPageHandler<T extends WindowCounted> implements ResultHandler<T> {
+
+    private final List<T> rows = new ArrayList<>();
+    private long total;
+
+    @Override
+    public void handleResult(ResultContext<? extends T> context) {
+        T row = context.getResultObject();
+        if (rows.isEmpty() && row.getTotalCount() != null) {
+            total = row.getTotalCount();
+        }
+        rows.add(row);
+    }
+
+    public List<T> getRows() {
+        return rows;
+    }
+
+    /**
+     * 전체 개수 - 조회된 행이 없으면 알 수 없으므로 isEmpty()로 먼저 확인
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+}
@@ -0,0 +1,9 @@
+-- 키셋 정렬 컬럼 NOT NULL 전환 - 정렬/비교를 원래 컬럼으로 해야 (정렬 컬럼, id) 인덱스(V6)를 그대로 탐색
+-- 기존 NULL은 컬럼 기본값으로 채움
+UPDATE posts SET view_count = 0 WHERE view_count IS NULL;
+UPDATE posts SET author_name = '작성자' WHERE author_name IS NULL;
+
+ALTER TABLE posts ALTER COLUMN view_count SET DEFAULT 0;
+ALTER TABLE posts ALTER COLUMN view_count SET NOT NULL;
+ALTER TABLE posts ALTER COLUMN author_name SET DEFAULT '작성자';
+ALTER TABLE posts ALTER COLUMN author_name SET NOT NULL;
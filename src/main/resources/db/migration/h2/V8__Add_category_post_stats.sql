@@ -0,0 +1,16 @@
+-- 카테고리/상태별 게시글 수 요약 테이블
+-- 게시글 쓰기와 같은 트랜잭션에서 증감하고, 주기적인 대조 작업(CategoryPostStatsService)이 어긋난 값을 보정
+CREATE TABLE category_post_stats (
+    category_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    post_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (category_id, status)
+);
+
+-- 기존 게시글로 초기값 적재
+INSERT INTO category_post_stats (category_id, status, post_count)
+SELECT category_id, status, COUNT(*)
+FROM posts
+WHERE category_id IS NOT NULL AND status IS NOT NULL
+GROUP BY category_id, status;
@@ -0,0 +1,8 @@
+-- 키셋 정렬 컬럼 NOT NULL 전환 - 정렬/비교를 원래 컬럼으로 해야 (정렬 컬럼, id) 인덱스(V6)를 그대로 탐색
+-- 기존 NULL은 컬럼 기본값으로 채움 (MODIFY는 테이블 재작성 - 한가한 시간대에 적용)
+UPDATE posts SET view_count = 0 WHERE view_count IS NULL;
+UPDATE posts SET author_name = '작성자' WHERE author_name IS NULL;
+
+ALTER TABLE posts
+    MODIFY view_count INT NOT NULL DEFAULT 0,
+    MODIFY author_name VARCHAR(100) NOT NULL DEFAULT '작성자';
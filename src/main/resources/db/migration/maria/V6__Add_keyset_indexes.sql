@@ -0,0 +1,5 @@
+-- 키셋 페이지네이션용 복합 인덱스 (정렬 컬럼 + id 동률 해소)
+CREATE INDEX idx_posts_created_at_id ON posts(created_at, id);
+CREATE INDEX idx_posts_title_id ON posts(title, id);
+CREATE INDEX idx_posts_view_count_id ON posts(view_count, id);
+CREATE INDEX idx_posts_author_id ON posts(author_name, id);
@@ -0,0 +1,2 @@
+-- 소프트 삭제 게시글 영구 삭제용 인덱스 (status = 'DELETED' 범위를 id 순으로 조금씩 읽음)
+CREATE INDEX idx_posts_status_id ON posts(status, id);
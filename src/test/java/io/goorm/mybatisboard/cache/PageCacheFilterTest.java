@@ -0,0 +1,158 @@
+package io.goorm.mybatisboard.cache;
+
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.support.SessionFlashMapManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageCacheFilterTest {
+
+    private static final String HTML = "<html>게시글 목록</html>";
+
+    private RenderedPageCache cache;
+    private PageCacheFilter filter;
+    private int rendered;
+    private String contentType;
+    private int status;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RenderedPageCache(60, 1024 * 1024);
+        filter = new PageCacheFilter(cache);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        rendered = 0;
+        contentType = "text/html;charset=UTF-8";
+        status = 200;
+    }
+
+    @Test
+    void secondRequestIsServedWithoutRendering() throws Exception {
+        MockHttpServletResponse first = get("/posts");
+        MockHttpServletResponse second = get("/posts");
+
+        assertThat(rendered).isEqualTo(1);
+        assertThat(second.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(HTML);
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isNotNull().isEqualTo(first.getHeader(HttpHeaders.ETAG));
+        assertThat(second.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModified() throws Exception {
+        String etag = get("/posts").getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest request = request("/posts");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = execute(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(rendered).isEqualTo(1);
+    }
+
+    @Test
+    void staleEtagAfterPostChangeRendersAgain() throws Exception {
+        String etag = get("/posts").getHeader(HttpHeaders.ETAG);
+        cache.onPostChanged(PostChangedEvent.deleted(1L));
+
+        MockHttpServletRequest request = request("/posts");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = execute(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(rendered).isEqualTo(2);
+    }
+
+    @Test
+    void gzipClientsGetStoredBodyAsIs() throws Exception {
+        get("/posts");
+
+        MockHttpServletRequest request = request("/posts");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        MockHttpServletResponse response = execute(request);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(RenderedPageCache.gunzip(response.getContentAsByteArray()))
+                .isEqualTo(HTML.getBytes(StandardCharsets.UTF_8));
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void defaultAndBlankParamsShareOneEntry() throws Exception {
+        get("/posts");
+
+        MockHttpServletRequest request = request("/posts");
+        request.addParameter("page", "1");
+        request.addParameter("size", "10");
+        request.addParameter("keyword", " ");
+        execute(request);
+
+        assertThat(rendered).isEqualTo(1);
+    }
+
+    @Test
+    void nonHtmlAndErrorResponsesAreNotCached() throws Exception {
+        contentType = "application/json";
+        get("/posts");
+        get("/posts");
+        assertThat(rendered).isEqualTo(2);
+
+        contentType = "text/html;charset=UTF-8";
+        status = 500;
+        get("/posts/search");
+        get("/posts/search");
+        assertThat(rendered).isEqualTo(4);
+    }
+
+    @Test
+    void flashMessageRequestsBypassCache() throws Exception {
+        get("/posts");
+
+        MockHttpServletRequest request = request("/posts");
+        request.getSession().setAttribute(SessionFlashMapManager.class.getName() + ".FLASH_MAPS", List.of());
+        MockHttpServletResponse response = execute(request);
+
+        assertThat(rendered).isEqualTo(2);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    void otherPathsAreNotFiltered() throws Exception {
+        get("/posts/1");
+        MockHttpServletResponse response = get("/posts/1");
+
+        assertThat(rendered).isEqualTo(2);
+        assertThat(response.getHeader(HttpHeaders.VARY)).isNull();
+    }
+
+    private MockHttpServletResponse get(String path) throws Exception {
+        return execute(request(path));
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain render = (req, res) -> {
+            rendered++;
+            ((HttpServletResponse) res).setStatus(status);
+            res.setContentType(contentType);
+            res.getOutputStream().write(HTML.getBytes(StandardCharsets.UTF_8));
+        };
+        filter.doFilter(request, response, render);
+        return response;
+    }
+}
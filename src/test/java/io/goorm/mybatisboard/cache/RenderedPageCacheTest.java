@@ -0,0 +1,44 @@
+package io.goorm.mybatisboard.cache;
+
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RenderedPageCacheTest {
+
+    private static final byte[] BODY = "<html>목록</html>".getBytes(StandardCharsets.UTF_8);
+
+    private final RenderedPageCache cache = new RenderedPageCache(60, 1024 * 1024);
+
+    @Test
+    void storesGzippedBodyWithGenerationEtag() {
+        RenderedPageCache.CachedPage page = cache.put("k", cache.currentGeneration(), "text/html", BODY);
+
+        assertThat(cache.get("k")).isSameAs(page);
+        assertThat(RenderedPageCache.gunzip(page.getGzipped())).isEqualTo(BODY);
+        assertThat(page.getEtag()).startsWith("\"0-").endsWith("\"");
+    }
+
+    @Test
+    void postChangeInvalidatesAndChangesEtag() {
+        String before = cache.put("k", cache.currentGeneration(), "text/html", BODY).getEtag();
+
+        cache.onPostChanged(PostChangedEvent.deleted(1L));
+
+        assertThat(cache.get("k")).isNull();
+        String after = cache.put("k", cache.currentGeneration(), "text/html", BODY).getEtag();
+        assertThat(after).isNotEqualTo(before).startsWith("\"1-");
+    }
+
+    @Test
+    void pageRenderedBeforeAWriteIsNotStored() {
+        long started = cache.currentGeneration();
+        cache.onPostChanged(PostChangedEvent.bulkImported());
+
+        assertThat(cache.put("k", started, "text/html", BODY)).isNull();
+        assertThat(cache.get("k")).isNull();
+    }
+}
@@ -0,0 +1,79 @@
+package io.goorm.mybatisboard.cache;
+
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResultCacheTest {
+
+    private final SearchResultCache cache = new SearchResultCache(true, 60, 1024 * 1024);
+
+    @Test
+    void returnsStoredIdsInOrder() {
+        cache.put("k", cache.generation(), List.of(3L, 1L, 2L), id -> id, 42, false);
+
+        SearchResultCache.CachedResult cached = cache.get("k");
+
+        assertThat(cached).isNotNull();
+        assertThat(cached.idList()).containsExactly(3L, 1L, 2L);
+        assertThat(cached.total()).isEqualTo(42);
+        assertThat(cached.estimated()).isFalse();
+    }
+
+    @Test
+    void postChangeInvalidatesEarlierGenerations() {
+        cache.put("k", cache.generation(), List.of(1L), id -> id, 1, false);
+
+        cache.onPostChanged(PostChangedEvent.deleted(1L));
+
+        assertThat(cache.get("k")).isNull();
+    }
+
+    @Test
+    void resultStartedBeforeAWriteIsNotStored() {
+        long started = cache.generation();
+        cache.onPostChanged(PostChangedEvent.bulkDeleted(List.of(1L, 2L)));
+
+        cache.put("k", started, List.of(1L), id -> id, 1, false);
+
+        assertThat(cache.get("k")).isNull();
+        cache.put("k", cache.generation(), List.of(3L), id -> id, 1, false);
+        assertThat(cache.get("k").idList()).containsExactly(3L);
+    }
+
+    @Test
+    void disabledCacheStoresNothing() {
+        SearchResultCache disabled = new SearchResultCache(false, 60, 1024 * 1024);
+
+        disabled.put("k", disabled.generation(), List.of(1L), id -> id, 1, false);
+
+        assertThat(disabled.get("k")).isNull();
+    }
+
+    @Test
+    void equivalentConditionsShareAKey() {
+        SearchConditionDto first = SearchConditionDto.builder()
+                .keyword(" MyBatis ").categoryIds(List.of(2L, 1L)).sortDirection("asc").build();
+        SearchConditionDto second = SearchConditionDto.builder()
+                .keyword("mybatis").searchType("title_content").categoryIds(List.of(1L, 2L))
+                .sortDirection("ASC").page(1).size(10).build();
+        first.validateAndCorrect();
+        second.validateAndCorrect();
+
+        assertThat(SearchResultCache.keyOf(first)).isEqualTo(SearchResultCache.keyOf(second));
+    }
+
+    @Test
+    void differentPagesHaveDifferentKeys() {
+        SearchConditionDto first = SearchConditionDto.builder().keyword("mybatis").page(1).build();
+        SearchConditionDto second = SearchConditionDto.builder().keyword("mybatis").page(2).build();
+        first.validateAndCorrect();
+        second.validateAndCorrect();
+
+        assertThat(SearchResultCache.keyOf(first)).isNotEqualTo(SearchResultCache.keyOf(second));
+    }
+}
@@ -0,0 +1,144 @@
+package io.goorm.mybatisboard.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 읽기/쓰기 라우팅 (H2 메모리 DB를 주 DB/복제본으로) - 각 DB의 node 테이블에 자기 이름을 넣어 어디서 읽었는지 확인
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private DataSourceRouter router;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+        if (router != null) {
+            router.close();
+        }
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        setUp(DataSourceRouter.Balance.LEAST_IN_FLIGHT, replica("replica-1"));
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica-1");
+        assertThat(router.getReplicas().get(0).getBorrowed()).isEqualTo(1);
+        assertThat(router.getReplicas().get(0).getInFlight()).isZero();
+    }
+
+    @Test
+    void writesAndNonTransactionalCallsGoToPrimary() {
+        setUp(DataSourceRouter.Balance.LEAST_IN_FLIGHT, replica("replica-1"));
+
+        assertThat(node()).isEqualTo("primary");
+        assertThat(readWrite.execute(status -> node())).isEqualTo("primary");
+        assertThat(router.getReplicas().get(0).getBorrowed()).isZero();
+    }
+
+    @Test
+    void roundRobinAlternatesReplicas() {
+        setUp(DataSourceRouter.Balance.ROUND_ROBIN, replica("replica-1"), replica("replica-2"));
+
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            nodes.add(readOnly.execute(status -> node()));
+        }
+
+        assertThat(nodes).containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+    }
+
+    @Test
+    void unavailableReplicaFailsOverToPrimaryAndIsSkippedUntilChecked() throws SQLException {
+        DataSource broken = mock(DataSource.class);
+        when(broken.getConnection()).thenThrow(new SQLException("connection refused"));
+        setUp(DataSourceRouter.Balance.ROUND_ROBIN, new ReplicaDataSource("replica-1", broken));
+        ReplicaDataSource replica = router.getReplicas().get(0);
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+        assertThat(replica.isHealthy()).isFalse();
+        assertThat(replica.getLastError()).isEqualTo("connection refused");
+        assertThat(router.stats().get(0).getFallbacks()).isEqualTo(1);
+
+        assertThat(router.selectReplica()).isNull();
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+        assertThat(router.stats().get(0).getFallbacks()).isEqualTo(1);
+
+        router.checkReplicas();
+        assertThat(replica.isHealthy()).isFalse();
+    }
+
+    @Test
+    void healthCheckRestoresReplica() {
+        setUp(DataSourceRouter.Balance.ROUND_ROBIN, replica("replica-1"));
+        ReplicaDataSource replica = router.getReplicas().get(0);
+        replica.markDown(new SQLException("timeout"));
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+
+        router.checkReplicas();
+        assertThat(replica.isHealthy()).isTrue();
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica-1");
+    }
+
+    @Test
+    void committedWritePinsLaterReadsToPrimary() {
+        setUp(DataSourceRouter.Balance.ROUND_ROBIN, replica("replica-1"));
+
+        readWrite.execute(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        assertThat(ReadYourWrites.isPinned()).isTrue();
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+    }
+
+    private void setUp(DataSourceRouter.Balance balance, ReplicaDataSource... replicas) {
+        router = new DataSourceRouter(pool("primary"), List.of(replicas), balance);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(router));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private ReplicaDataSource replica(String name) {
+        return new ReplicaDataSource(name, pool(name));
+    }
+
+    /**
+     * 이름별 H2 메모리 DB 풀 - node 테이블에 자기 이름 한 행
+     */
+    private HikariDataSource pool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        pool.setMaximumPoolSize(2);
+        pools.add(pool);
+        JdbcTemplate jdbc = new JdbcTemplate(pool);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return pool;
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+}
@@ -0,0 +1,55 @@
+package io.goorm.mybatisboard.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageDtoTest {
+
+    @Test
+    void exactTotalStopsAtLastPage() {
+        PageDto<Integer> last = PageDto.of(List.of(1, 2, 3), 3, 10, 23);
+
+        assertThat(last.getTotalPages()).isEqualTo(3);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.isLast()).isTrue();
+    }
+
+    @Test
+    void estimatedTotalOffersNextOnlyForFullPages() {
+        PageDto<Integer> full = PageDto.of(items(10), 5, 10, 30, true);
+        PageDto<Integer> partial = PageDto.of(items(4), 6, 10, 30, true);
+
+        assertThat(full.getTotalPages()).isEqualTo(5);
+        assertThat(full.hasNext()).isTrue();
+        assertThat(full.isLast()).isFalse();
+        assertThat(partial.hasNext()).isFalse();
+        assertThat(partial.isLast()).isTrue();
+    }
+
+    @Test
+    void estimatedTotalWithinCappedPagesStillHasNext() {
+        PageDto<Integer> page = PageDto.of(items(10), 2, 10, 30, true);
+
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.isLast()).isFalse();
+    }
+
+    @Test
+    void emptyPagePastTheEndDoesNotExtendThePager() {
+        PageDto<Integer> empty = PageDto.of(List.of(), 9, 10, 30, true);
+
+        assertThat(empty.getTotalPages()).isEqualTo(3);
+        assertThat(empty.hasNext()).isFalse();
+        assertThat(empty.isLast()).isTrue();
+        assertThat(empty.getTotalLabel()).isEqualTo("30+");
+    }
+
+    private static List<Integer> items(int count) {
+        return Collections.nCopies(count, 1);
+    }
+}
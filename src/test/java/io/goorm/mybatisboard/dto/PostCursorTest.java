@@ -0,0 +1,95 @@
+package io.goorm.mybatisboard.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostCursorTest {
+
+    @Test
+    void tokenRoundTripsSortValueAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 12, 30, 15);
+        PostCursor first = PostCursor.first("created_at", "DESC");
+
+        PostCursor decoded = PostCursor.decode(first.tokenFor(createdAt, 42L), "created_at", "DESC", false);
+
+        assertThat(decoded.isFirst()).isFalse();
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.getSortValue()).isEqualTo(createdAt);
+        assertThat(decoded.getOperator()).isEqualTo("<");
+    }
+
+    @Test
+    void backwardCursorReversesOrderAndOperator() {
+        String token = PostCursor.first("view_count", "DESC").tokenFor(7, 3L);
+
+        PostCursor decoded = PostCursor.decode(token, "view_count", "DESC", true);
+
+        assertThat(decoded.isBackward()).isTrue();
+        assertThat(decoded.getOrderDirection()).isEqualTo("ASC");
+        assertThat(decoded.getOperator()).isEqualTo(">");
+        assertThat(decoded.getSortValue()).isEqualTo(7L);
+    }
+
+    @Test
+    void directionIsNormalized() {
+        String token = PostCursor.first("title", "asc").tokenFor("제목", 1L);
+
+        PostCursor decoded = PostCursor.decode(token, "title", "ASC", false);
+
+        assertThat(decoded.getSortDirection()).isEqualTo("ASC");
+        assertThat(decoded.isFirst()).isFalse();
+    }
+
+    @Test
+    void tokenForAnotherSortIsIgnored() {
+        String token = PostCursor.first("title", "ASC").tokenFor("제목", 1L);
+
+        assertThat(PostCursor.decode(token, "view_count", "ASC", false).isFirst()).isTrue();
+        assertThat(PostCursor.decode(token, "title", "DESC", false).isFirst()).isTrue();
+    }
+
+    @Test
+    void tamperedTokensFallBackToFirstPage() {
+        assertThat(PostCursor.decode("not a token!", "created_at", "DESC", false).isFirst()).isTrue();
+        assertThat(PostCursor.decode(encode("created_at\nDESC\nabc\n2026-01-01T00:00"), "created_at", "DESC", false)
+                .isFirst()).isTrue();
+        assertThat(PostCursor.decode(encode("created_at\nDESC\n5\nyesterday"), "created_at", "DESC", false)
+                .isFirst()).isTrue();
+        assertThat(PostCursor.decode(encode("view_count\nDESC\n5\nmany"), "view_count", "DESC", false)
+                .isFirst()).isTrue();
+        assertThat(PostCursor.decode(encode("view_count\nDESC\n5"), "view_count", "DESC", false)
+                .isFirst()).isTrue();
+    }
+
+    @Test
+    void unknownSortFallsBackToCreatedAt() {
+        PostCursor cursor = PostCursor.first("id; DROP TABLE posts", "sideways");
+
+        assertThat(cursor.getSortBy()).isEqualTo("created_at");
+        assertThat(cursor.getSortDirection()).isEqualTo("DESC");
+        assertThat(cursor.getSortColumn()).isEqualTo("p.created_at");
+    }
+
+    @Test
+    void sortsOnRawIndexedColumns() {
+        PostCursor author = PostCursor.decode(PostCursor.first("author_name", "ASC").tokenFor(null, 9L),
+                "author_name", "ASC", false);
+        PostCursor views = PostCursor.decode(PostCursor.first("view_count", "ASC").tokenFor(null, 9L),
+                "view_count", "ASC", false);
+
+        assertThat(author.isFirst()).isFalse();
+        assertThat(author.getSortColumn()).isEqualTo("p.author_name");
+        assertThat(author.getSortValue()).isEqualTo("");
+        assertThat(views.getSortColumn()).isEqualTo("p.view_count");
+        assertThat(views.getSortValue()).isEqualTo(0L);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
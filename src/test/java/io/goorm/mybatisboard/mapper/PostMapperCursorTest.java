@@ -0,0 +1,98 @@
+package io.goorm.mybatisboard.mapper;
+
+import io.goorm.mybatisboard.dto.PostCursor;
+import io.goorm.mybatisboard.dto.PostListDto;
+import io.goorm.mybatisboard.model.Post;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * findAllByCursor (H2) - NULL로 저장한 정렬값은 컬럼 기본값이 되고, 같은 정렬값 행도 키셋 페이지를 넘어가며 모두 조회되는지
+ */
+@SpringBootTest
+@Transactional
+class PostMapperCursorTest {
+
+    private static final String KEYWORD = "cursornulltest";
+
+    @Autowired
+    private PostMapper postMapper;
+
+    private final List<Long> savedIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String[] authors = {"kim", null, "lee", null, "park"};
+        for (int i = 0; i < authors.length; i++) {
+            Post post = new Post();
+            post.setTitle("CursorNullTest " + i);
+            post.setContent("키셋 NULL 테스트");
+            post.setCreatedAt(LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(i));
+            post.setUpdatedAt(post.getCreatedAt());
+            post.setCategoryId(2L);
+            post.setStatus("PUBLISHED");
+            post.setAuthorName(authors[i]);
+            post.setIsNotice(false);
+            postMapper.save(post);
+            savedIds.add(post.getId());
+        }
+    }
+
+    @Test
+    void nullSortValuesAreStoredAsColumnDefaults() {
+        Post withoutAuthor = postMapper.findById(savedIds.get(1));
+
+        assertThat(withoutAuthor.getAuthorName()).isEqualTo("작성자");
+        assertThat(withoutAuthor.getViewCount()).isZero();
+    }
+
+    @Test
+    void pagesThroughDefaultAuthorNames() {
+        List<Long> seen = readAll("author_name", "ASC");
+
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(savedIds);
+        assertThat(seen).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void pagesThroughTiedViewCountsDescending() {
+        List<Long> seen = readAll("view_count", "DESC");
+
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(savedIds);
+        assertThat(seen).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void keywordMatchIsCaseInsensitive() {
+        List<PostListDto> rows = postMapper.findAllByCursor("title", "CURSORNULLTEST",
+                PostCursor.first("created_at", "DESC"), 10);
+
+        assertThat(rows).extracting(PostListDto::getId).containsExactlyInAnyOrderElementsOf(savedIds);
+    }
+
+    private List<Long> readAll(String sortBy, String sortDirection) {
+        int size = 2;
+        List<Long> seen = new ArrayList<>();
+        PostCursor keyset = PostCursor.first(sortBy, sortDirection);
+        while (true) {
+            List<PostListDto> rows = postMapper.findAllByCursor("title", KEYWORD, keyset, size + 1);
+            List<PostListDto> page = rows.subList(0, Math.min(size, rows.size()));
+            page.forEach(row -> seen.add(row.getId()));
+            if (rows.size() <= size || seen.size() > savedIds.size()) {
+                return seen;
+            }
+            PostListDto last = page.get(page.size() - 1);
+            Object sortValue = "author_name".equals(sortBy) ? last.getAuthorName() : last.getViewCount();
+            keyset = PostCursor.decode(keyset.tokenFor(sortValue, last.getId()), sortBy, sortDirection, false);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.goorm.mybatisboard.mapper;
+
+import io.goorm.mybatisboard.dto.PostWithDetailsDto;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.model.Post;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 날짜 범위 검색 (H2) - created_at을 함수로 감싸지 않는 반열림 구간 [시작일 00:00, 종료일 다음날 00:00)
+ * 경계 시각의 행이 DATE(created_at) 비교와 같은 결과를 내는지 (프로바이더 SQL과 XML 공통 조건 모두)
+ */
+@SpringBootTest
+@Transactional
+class PostMapperDateRangeTest {
+
+    private static final String KEYWORD = "daterangetest";
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @BeforeEach
+    void setUp() {
+        save("DateRangeTest 2월 말", LocalDateTime.of(2026, 2, 28, 23, 59, 59, 999_000_000));
+        save("DateRangeTest 3월 첫 순간", LocalDateTime.of(2026, 3, 1, 0, 0));
+        save("DateRangeTest 3월 마지막", LocalDateTime.of(2026, 3, 31, 23, 59, 59, 999_000_000));
+        save("DateRangeTest 4월 첫 순간", LocalDateTime.of(2026, 4, 1, 0, 0));
+    }
+
+    @Test
+    void providerRangeIncludesWholeEndDateOnly() {
+        List<PostWithDetailsDto> posts = postMapper.findAllWithConditions(march());
+
+        assertThat(posts).extracting(PostWithDetailsDto::getTitle)
+                .containsExactlyInAnyOrder("DateRangeTest 3월 첫 순간", "DateRangeTest 3월 마지막");
+        assertThat(postMapper.countAllWithConditions(march())).isEqualTo(2);
+    }
+
+    @Test
+    void xmlRangeMatchesProviderRange() {
+        List<String> titles = new ArrayList<>();
+        try (Cursor<Post> cursor = postMapper.streamAll(march())) {
+            cursor.forEach(post -> titles.add(post.getTitle()));
+        }
+
+        assertThat(titles).containsExactly("DateRangeTest 3월 첫 순간", "DateRangeTest 3월 마지막");
+    }
+
+    @Test
+    void openEndedRangesUseOneBoundOnly() {
+        SearchConditionDto fromApril = condition(LocalDate.of(2026, 4, 1), null);
+        SearchConditionDto untilFebruary = condition(null, LocalDate.of(2026, 2, 28));
+
+        assertThat(postMapper.countAllWithConditions(fromApril)).isEqualTo(1);
+        assertThat(postMapper.countAllWithConditions(untilFebruary)).isEqualTo(1);
+    }
+
+    private static SearchConditionDto march() {
+        return condition(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+    }
+
+    private static SearchConditionDto condition(LocalDate startDate, LocalDate endDate) {
+        SearchConditionDto condition = SearchConditionDto.builder()
+                .keyword(KEYWORD).searchType("title").startDate(startDate).endDate(endDate).build();
+        condition.validateAndCorrect();
+        return condition;
+    }
+
+    private void save(String title, LocalDateTime createdAt) {
+        Post post = new Post();
+        post.setTitle(title);
+        post.setContent("본문");
+        post.setCreatedAt(createdAt);
+        post.setUpdatedAt(createdAt);
+        post.setCategoryId(2L);
+        post.setStatus("PUBLISHED");
+        post.setAuthorName("작성자");
+        post.setViewCount(0);
+        post.setIsNotice(false);
+        postMapper.save(post);
+    }
+}
@@ -0,0 +1,65 @@
+package io.goorm.mybatisboard.mapper;
+
+import io.goorm.mybatisboard.dto.PostListDto;
+import io.goorm.mybatisboard.model.Post;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 색인 재구축 배치 조회와 색인 결과 id 조회 (H2)
+ */
+@SpringBootTest
+@Transactional
+class PostMapperIndexTest {
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @Test
+    void findAllForIndexReadsLiveRowsInIdOrder() {
+        Post first = save("색인 첫 글");
+        Post deleted = save("색인 삭제된 글");
+        Post last = save("색인 마지막 글");
+        postMapper.softDeleteByIds(List.of(deleted.getId()), LocalDateTime.now());
+
+        List<Post> batch = postMapper.findAllForIndex(first.getId() - 1, 10);
+
+        assertThat(batch).extracting(Post::getId).containsExactly(first.getId(), last.getId());
+        assertThat(batch.get(0).getTitle()).isEqualTo("색인 첫 글");
+        assertThat(batch.get(0).getContent()).isNotNull();
+        assertThat(postMapper.findAllForIndex(first.getId() - 1, 1)).extracting(Post::getId)
+                .containsExactly(first.getId());
+    }
+
+    @Test
+    void findListByIdsReturnsRequestedRows() {
+        Post first = save("id 조회 첫 글");
+        Post second = save("id 조회 둘째 글");
+
+        List<PostListDto> rows = postMapper.findListByIds(List.of(second.getId(), first.getId()));
+
+        assertThat(rows).extracting(PostListDto::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    private Post save(String title) {
+        Post post = new Post();
+        post.setTitle(title);
+        post.setContent(title + " 내용");
+        post.setCreatedAt(LocalDateTime.now());
+        post.setUpdatedAt(LocalDateTime.now());
+        post.setCategoryId(2L);
+        post.setStatus("PUBLISHED");
+        post.setAuthorName("작성자");
+        post.setViewCount(0);
+        post.setIsNotice(false);
+        postMapper.save(post);
+        return post;
+    }
+}
@@ -0,0 +1,102 @@
+package io.goorm.mybatisboard.mapper;
+
+import io.goorm.mybatisboard.dto.PostWithDetailsDto;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.model.Post;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 통합 검색 SQL 프로바이더 (H2) - 키워드/날짜/정렬 조합이 실제 DB에서 같은 결과를 내는지
+ */
+@SpringBootTest
+@Transactional
+class PostMapperSearchProviderTest {
+
+    private static final String KEYWORD = "providersearchtest";
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @BeforeEach
+    void setUp() {
+        save("ProviderSearchTest 제목", "본문", LocalDateTime.of(2026, 2, 1, 9, 0), 30, "PUBLISHED");
+        save("다른 제목", "본문에 providerSearchTest 포함", LocalDateTime.of(2026, 2, 10, 9, 0), 10, "PUBLISHED");
+        save("PROVIDERSEARCHTEST 마지막", "본문", LocalDateTime.of(2026, 3, 5, 9, 0), null, "PUBLISHED");
+        save("ProviderSearchTest 삭제됨", "본문", LocalDateTime.of(2026, 2, 2, 9, 0), 99, "DELETED");
+    }
+
+    @Test
+    void keywordMatchesTitleAndContentCaseInsensitive() {
+        SearchConditionDto titleContent = condition(SearchConditionDto.builder().keyword(KEYWORD));
+        SearchConditionDto titleOnly = condition(SearchConditionDto.builder().keyword(KEYWORD).searchType("title"));
+        SearchConditionDto contentOnly = condition(SearchConditionDto.builder().keyword(KEYWORD).searchType("content"));
+
+        assertThat(postMapper.findAllWithConditions(titleContent)).hasSize(3);
+        assertThat(postMapper.countAllWithConditions(titleContent)).isEqualTo(3);
+        assertThat(postMapper.countAllWithConditions(titleOnly)).isEqualTo(2);
+        assertThat(postMapper.countAllWithConditions(contentOnly)).isEqualTo(1);
+    }
+
+    @Test
+    void dateRangeIncludesWholeEndDate() {
+        SearchConditionDto february = condition(SearchConditionDto.builder()
+                .keyword(KEYWORD)
+                .startDate(LocalDate.of(2026, 2, 1))
+                .endDate(LocalDate.of(2026, 2, 10)));
+
+        List<PostWithDetailsDto> posts = postMapper.findAllWithConditions(february);
+
+        assertThat(posts).extracting(PostWithDetailsDto::getTitle)
+                .containsExactlyInAnyOrder("ProviderSearchTest 제목", "다른 제목");
+        assertThat(postMapper.countAllWithConditions(february)).isEqualTo(2);
+    }
+
+    @Test
+    void sortsByViewCount() {
+        SearchConditionDto byViews = condition(SearchConditionDto.builder()
+                .keyword(KEYWORD).searchType("title").sortBy("view_count").sortDirection("desc"));
+
+        List<PostWithDetailsDto> posts = postMapper.findAllWithConditions(byViews);
+
+        assertThat(posts).extracting(PostWithDetailsDto::getTitle)
+                .containsExactly("ProviderSearchTest 제목", "PROVIDERSEARCHTEST 마지막");
+    }
+
+    @Test
+    void cappedCountStopsAtLimit() {
+        SearchConditionDto condition = condition(SearchConditionDto.builder().keyword(KEYWORD));
+        condition.applyCountLimit(2);
+
+        assertThat(postMapper.countAllWithConditionsCapped(condition)).isEqualTo(2);
+    }
+
+    private void save(String title, String content, LocalDateTime createdAt, Integer viewCount, String status) {
+        Post post = new Post();
+        post.setTitle(title);
+        post.setContent(content);
+        post.setCreatedAt(createdAt);
+        post.setUpdatedAt(createdAt);
+        post.setCategoryId(2L);
+        post.setStatus(status);
+        post.setAuthorName("tester");
+        post.setViewCount(viewCount);
+        post.setIsNotice(false);
+        postMapper.save(post);
+    }
+
+    private static SearchConditionDto condition(SearchConditionDto.SearchConditionDtoBuilder builder) {
+        SearchConditionDto condition = builder.build();
+        condition.validateAndCorrect();
+        return condition;
+    }
+}
@@ -0,0 +1,89 @@
+package io.goorm.mybatisboard.mapper;
+
+import io.goorm.mybatisboard.dto.CountedPostWithDetailsDto;
+import io.goorm.mybatisboard.dto.PostWithDetailsDto;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.model.Post;
+import io.goorm.mybatisboard.support.WindowPageHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단일 조회 모드 (H2) - 목록 행마다 COUNT(*) OVER() 전체 개수
+ */
+@SpringBootTest
+@Transactional
+class PostMapperWindowCountTest {
+
+    private static final String KEYWORD = "windowcounttest";
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 5; i++) {
+            save("WindowCountTest " + i, LocalDateTime.of(2026, 4, i, 9, 0), "PUBLISHED");
+        }
+        save("WindowCountTest 삭제됨", LocalDateTime.of(2026, 4, 6, 9, 0), "DELETED");
+    }
+
+    @Test
+    void everyPageCarriesTotalOfAllMatches() {
+        WindowPageHandler<CountedPostWithDetailsDto> first = query(1);
+        WindowPageHandler<CountedPostWithDetailsDto> last = query(3);
+
+        assertThat(first.getRows()).extracting(PostWithDetailsDto::getTitle)
+                .containsExactly("WindowCountTest 5", "WindowCountTest 4");
+        assertThat(first.getTotal()).isEqualTo(5);
+        assertThat(last.getRows()).extracting(PostWithDetailsDto::getTitle).containsExactly("WindowCountTest 1");
+        assertThat(last.getTotal()).isEqualTo(5);
+    }
+
+    @Test
+    void totalMatchesSeparateCountQuery() {
+        assertThat(query(2).getTotal()).isEqualTo(postMapper.countAllWithConditions(condition(2)));
+    }
+
+    @Test
+    void pagePastTheEndHasNoRowsToCarryTotal() {
+        WindowPageHandler<CountedPostWithDetailsDto> handler = query(4);
+
+        assertThat(handler.isEmpty()).isTrue();
+        assertThat(handler.getTotal()).isZero();
+    }
+
+    private WindowPageHandler<CountedPostWithDetailsDto> query(int page) {
+        WindowPageHandler<CountedPostWithDetailsDto> handler = new WindowPageHandler<>();
+        postMapper.findAllWithConditionsCounted(condition(page), handler);
+        return handler;
+    }
+
+    private static SearchConditionDto condition(int page) {
+        SearchConditionDto condition = SearchConditionDto.builder()
+                .keyword(KEYWORD).searchType("title").page(page).size(2).build();
+        condition.validateAndCorrect();
+        return condition;
+    }
+
+    private void save(String title, LocalDateTime createdAt, String status) {
+        Post post = new Post();
+        post.setTitle(title);
+        post.setContent("본문");
+        post.setCreatedAt(createdAt);
+        post.setUpdatedAt(createdAt);
+        post.setCategoryId(2L);
+        post.setStatus(status);
+        post.setAuthorName("작성자");
+        post.setViewCount(0);
+        post.setIsNotice(false);
+        postMapper.save(post);
+    }
+}
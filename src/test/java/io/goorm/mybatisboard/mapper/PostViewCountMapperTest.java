@@ -0,0 +1,72 @@
+package io.goorm.mybatisboard.mapper;
+
+import io.goorm.mybatisboard.model.Post;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회수 일괄 반영 UPDATE ... CASE (H2)
+ */
+@SpringBootTest
+@Transactional
+class PostViewCountMapperTest {
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @Autowired
+    private PostViewCountMapper postViewCountMapper;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Test
+    void incrementsEachPostByItsOwnDelta() {
+        Post first = save(5);
+        Post second = save(0);
+        Post untouched = save(9);
+
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        deltas.put(first.getId(), 3L);
+        deltas.put(second.getId(), 1L);
+        postViewCountMapper.incrementViewCounts(deltas);
+
+        assertThat(postMapper.findById(first.getId()).getViewCount()).isEqualTo(8);
+        assertThat(postMapper.findById(second.getId()).getViewCount()).isEqualTo(1);
+        assertThat(postMapper.findById(untouched.getId()).getViewCount()).isEqualTo(9);
+    }
+
+    @Test
+    void flushClearsPostMapperCache() {
+        MappedStatement increment = sqlSessionFactory.getConfiguration()
+                .getMappedStatement(PostViewCountMapper.class.getName() + ".incrementViewCounts");
+
+        assertThat(increment.getCache()).isSameAs(sqlSessionFactory.getConfiguration().getCache(PostMapper.class.getName()));
+        assertThat(increment.isFlushCacheRequired()).isTrue();
+    }
+
+    private Post save(int viewCount) {
+        Post post = new Post();
+        post.setTitle("조회수 테스트");
+        post.setContent("조회수 테스트 내용");
+        post.setCreatedAt(LocalDateTime.now());
+        post.setUpdatedAt(LocalDateTime.now());
+        post.setCategoryId(2L);
+        post.setStatus("PUBLISHED");
+        post.setAuthorName("작성자");
+        post.setViewCount(viewCount);
+        post.setIsNotice(false);
+        postMapper.save(post);
+        return post;
+    }
+}
@@ -0,0 +1,102 @@
+package io.goorm.mybatisboard.mapper.provider;
+
+import io.goorm.mybatisboard.dto.PostCursor;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostSearchSqlProvider - 비트마스크 모양별 SQL 캐시와 조건별 WHERE/ORDER BY 조립
+ */
+class PostSearchSqlProviderTest {
+
+    @Test
+    void sameShapeReturnsSameSqlInstance() {
+        SearchConditionDto first = condition(SearchConditionDto.builder().keyword("스프링").searchType("title"));
+        SearchConditionDto second = condition(SearchConditionDto.builder().keyword("마이바티스").searchType("title").page(5));
+
+        assertThat(PostSearchSqlProvider.findAllWithConditions(second))
+                .isSameAs(PostSearchSqlProvider.findAllWithConditions(first));
+        assertThat(PostSearchSqlProvider.countAllWithConditions(second))
+                .isSameAs(PostSearchSqlProvider.countAllWithConditions(first));
+    }
+
+    @Test
+    void differentShapesReturnDifferentSql() {
+        String none = PostSearchSqlProvider.findAllWithConditions(condition(SearchConditionDto.builder()));
+        String title = PostSearchSqlProvider.findAllWithConditions(
+                condition(SearchConditionDto.builder().keyword("스프링").searchType("title")));
+        String both = PostSearchSqlProvider.findAllWithConditions(
+                condition(SearchConditionDto.builder().keyword("스프링").searchType("title_content")));
+
+        assertThat(none).doesNotContain("LIKE");
+        assertThat(title).contains("LOWER(p.title) LIKE").doesNotContain("LOWER(p.content) LIKE");
+        assertThat(both).contains("LOWER(p.title) LIKE", "LOWER(p.content) LIKE");
+        assertThat(title).isNotEqualTo(both);
+    }
+
+    @Test
+    void alwaysExcludesDeletedPosts() {
+        SearchConditionDto condition = condition(SearchConditionDto.builder()
+                .keyword("스프링")
+                .startDate(LocalDate.of(2026, 1, 1))
+                .endDate(LocalDate.of(2026, 1, 31)));
+
+        assertThat(PostSearchSqlProvider.findAllWithConditions(condition)).contains("p.status <> 'DELETED'");
+        assertThat(PostSearchSqlProvider.countAllWithConditions(condition)).contains("p.status <> 'DELETED'");
+        assertThat(PostSearchSqlProvider.countAllWithConditionsCapped(condition))
+                .contains("p.status <> 'DELETED'", "LIMIT #{countLimit}");
+        assertThat(PostSearchSqlProvider.findAllWithConditions(condition))
+                .contains("p.created_at >= #{createdFrom}", "p.created_at < #{createdBefore}");
+    }
+
+    @Test
+    void orderByFollowsSortCondition() {
+        String viewCountAsc = PostSearchSqlProvider.findAllWithConditions(
+                condition(SearchConditionDto.builder().sortBy("view_count").sortDirection("asc")));
+        String titleDesc = PostSearchSqlProvider.findAllWithConditions(
+                condition(SearchConditionDto.builder().sortBy("title").sortDirection("DESC")));
+
+        assertThat(viewCountAsc).contains("ORDER BY p.view_count ASC").endsWith("LIMIT #{offset}, #{size}");
+        assertThat(titleDesc).contains("ORDER BY p.title DESC");
+    }
+
+    @Test
+    void keysetPredicateOnlyAfterCursor() {
+        SearchConditionDto firstPage = condition(SearchConditionDto.builder()
+                .sortBy("author_name").sortDirection("ASC").cursor(""));
+        String token = PostCursor.first("author_name", "ASC").tokenFor("kim", 5L);
+        SearchConditionDto nextPage = condition(SearchConditionDto.builder()
+                .sortBy("author_name").sortDirection("ASC").cursor(token).direction("next"));
+
+        String firstSql = PostSearchSqlProvider.findAllWithConditionsByCursor(firstPage);
+        String nextSql = PostSearchSqlProvider.findAllWithConditionsByCursor(nextPage);
+
+        assertThat(firstSql).doesNotContain("#{keyset.sortValue}").endsWith("LIMIT #{keysetLimit}");
+        assertThat(nextSql).contains("p.author_name > #{keyset.sortValue}", "p.id > #{keyset.id}");
+        assertThat(nextSql).contains("ORDER BY p.author_name ASC, p.id ASC");
+    }
+
+    @Test
+    void languageDriverCachesSqlSourcePerScript() {
+        ShapeCachingLanguageDriver driver = new ShapeCachingLanguageDriver();
+        Configuration configuration = new Configuration();
+        String sql = PostSearchSqlProvider.findAllWithConditions(condition(SearchConditionDto.builder()));
+
+        SqlSource first = driver.createSqlSource(configuration, sql, SearchConditionDto.class);
+        SqlSource second = driver.createSqlSource(configuration, sql, SearchConditionDto.class);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    private static SearchConditionDto condition(SearchConditionDto.SearchConditionDtoBuilder builder) {
+        SearchConditionDto condition = builder.build();
+        condition.validateAndCorrect();
+        return condition;
+    }
+}
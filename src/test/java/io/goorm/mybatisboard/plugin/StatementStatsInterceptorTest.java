@@ -0,0 +1,47 @@
+package io.goorm.mybatisboard.plugin;
+
+import io.goorm.mybatisboard.dto.StatementStatsDto;
+import io.goorm.mybatisboard.mapper.CategoryMapper;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구문 통계 플러그인 (H2) - 2차 캐시 적중은 DB 실행으로 기록하지 않음
+ */
+@SpringBootTest
+class StatementStatsInterceptorTest {
+
+    private static final String STATEMENT = "CategoryMapper.findAll";
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private StatementStatsRegistry registry;
+
+    @Test
+    void secondLevelCacheHitsAreNotRecorded() {
+        long before = calls();
+
+        for (int i = 0; i < 3; i++) {
+            try (SqlSession session = sqlSessionFactory.openSession()) {
+                assertThat(session.getMapper(CategoryMapper.class).findAll(0, 73)).isNotEmpty();
+                session.commit();
+            }
+        }
+
+        assertThat(calls() - before).isEqualTo(1);
+    }
+
+    private long calls() {
+        return registry.snapshot().stream()
+                .filter(stats -> STATEMENT.equals(stats.getStatementId()))
+                .mapToLong(StatementStatsDto::getCalls)
+                .sum();
+    }
+}
@@ -0,0 +1,38 @@
+package io.goorm.mybatisboard.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramTokenizerTest {
+
+    @Test
+    void splitsWordsIntoLowercaseBigrams() {
+        Map<String, Integer> frequencies = NgramTokenizer.termFrequencies("게시판 MyBatis 게시");
+
+        assertThat(frequencies).containsEntry("게시", 2).containsEntry("시판", 1)
+                .containsEntry("my", 1).containsEntry("ba", 1).containsEntry("is", 1)
+                .doesNotContainKey("판 ").doesNotContainKey("My");
+    }
+
+    @Test
+    void keepsSingleCharacterWordsAsTerms() {
+        assertThat(NgramTokenizer.termFrequencies("a 게시판")).containsKey("a").containsKey("게시");
+    }
+
+    @Test
+    void queryTokensCoverEveryWord() {
+        assertThat(NgramTokenizer.queryTokens("게시판 검색")).containsExactlyInAnyOrder("게시", "시판", "검색");
+    }
+
+    @Test
+    void queryWithShortWordHasNoTokens() {
+        assertThat(NgramTokenizer.queryTokens("a")).isEmpty();
+        assertThat(NgramTokenizer.queryTokens("게시판 a")).isEmpty();
+        assertThat(NgramTokenizer.queryTokens("c++ 게시판")).isEmpty();
+        assertThat(NgramTokenizer.queryTokens("   ")).isEmpty();
+        assertThat(NgramTokenizer.queryTokens(null)).isEmpty();
+    }
+}
@@ -0,0 +1,149 @@
+package io.goorm.mybatisboard.search;
+
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import io.goorm.mybatisboard.mapper.PostMapper;
+import io.goorm.mybatisboard.model.Post;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 색인 검색 결과가 LIKE '%kw%' (소문자, 검색 타입별 제목/내용)와 같은지 비교
+ */
+class PostSearchIndexTest {
+
+    private final List<Post> posts = new ArrayList<>();
+    private PostMapper postMapper;
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        posts.add(post(1, "게시판 검색 기능", "MyBatis 동적 SQL로 만든 검색"));
+        posts.add(post(2, "검색 게시판", "제목에 단어 순서가 반대"));
+        posts.add(post(3, "공지", "게시판 검색 방법 안내"));
+        posts.add(post(4, "MYBATIS 설정", "게시 판 검색 - 띄어쓰기가 다름"));
+        posts.add(post(5, "시판 게시", "바이그램은 모두 있지만 연속되지 않음"));
+        posts.add(post(6, "자유", null));
+
+        postMapper = mock(PostMapper.class);
+        when(postMapper.findAllForIndex(anyLong(), anyInt())).thenReturn(posts);
+        index = new PostSearchIndex(postMapper, 100_000);
+        index.rebuild();
+    }
+
+    @Test
+    void matchesLikeForEverySearchType() {
+        String[] keywords = {"게시판", "게시판 검색", "검색 게시판", "mybatis", "MyBatis 동적", "게시", "시판게", "없는단어"};
+        for (String keyword : keywords) {
+            for (String searchType : new String[]{"title", "content", "title_content"}) {
+                assertThat(index.search(keyword, searchType, null, null, "created_at", "DESC"))
+                        .as("%s / %s", keyword, searchType)
+                        .containsExactlyElementsOf(like(keyword, searchType));
+            }
+        }
+    }
+
+    @Test
+    void shortWordsFallBackToDatabase() {
+        assertThat(index.search("판", "title_content", null, null, "created_at", "DESC")).isNull();
+        assertThat(index.search("게시판 a", "title_content", null, null, "created_at", "DESC")).isNull();
+    }
+
+    @Test
+    void unsupportedSortFallsBackToDatabase() {
+        assertThat(index.search("게시판", "title_content", null, null, "view_count", "DESC")).isNull();
+    }
+
+    @Test
+    void ascendingOrderIsOldestFirst() {
+        assertThat(index.search("게시판", "title_content", null, null, "created_at", "ASC"))
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void eventsUpdateTheIndex() {
+        Post updated = post(3, "공지", "내용을 바꿈");
+        index.onPostChanged(PostChangedEvent.updated(updated));
+        index.onPostChanged(PostChangedEvent.bulkDeleted(List.of(1L, 4L)));
+
+        assertThat(index.search("게시판", "title_content", null, null, "created_at", "DESC")).containsExactly(2L);
+        assertThat(index.search("mybatis", "title_content", null, null, "created_at", "DESC")).isEmpty();
+        assertThat(index.search("바꿈", "content", null, null, "created_at", "DESC")).containsExactly(3L);
+    }
+
+    @Test
+    void eventsDuringRebuildAreReplayedOnTheNewIndex() {
+        when(postMapper.findAllForIndex(anyLong(), anyInt())).thenAnswer(invocation -> {
+            index.onPostChanged(PostChangedEvent.bulkDeleted(List.of(1L)));
+            return posts;
+        });
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("게시판", "title_content", null, null, "created_at", "DESC")).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void bulkImportRebuildsInTheBackground() throws InterruptedException {
+        posts.add(post(7, "새로 적재한 게시판", "대량 적재"));
+
+        index.onPostChanged(PostChangedEvent.bulkImported());
+
+        verify(postMapper, timeout(5000).times(2)).findAllForIndex(anyLong(), anyInt());
+        for (int i = 0; i < 100 && !index.isReady(); i++) {
+            Thread.sleep(50);
+        }
+        assertThat(index.search("게시판", "title", null, null, "created_at", "DESC")).containsExactly(7L, 2L, 1L);
+    }
+
+    @Test
+    void indexOverTheTextLimitFallsBackToDatabase() {
+        PostSearchIndex small = new PostSearchIndex(postMapper, 20);
+
+        small.rebuild();
+
+        assertThat(small.isReady()).isFalse();
+        assertThat(small.search("게시판", "title_content", null, null, "created_at", "DESC")).isNull();
+    }
+
+    /**
+     * LIKE 기준 결과 - LOWER(col) LIKE LOWER('%kw%'), 작성일 내림차순
+     */
+    private List<Long> like(String keyword, String searchType) {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        return posts.stream()
+                .filter(post -> (!"content".equals(searchType) && contains(post.getTitle(), needle))
+                        || (!"title".equals(searchType) && contains(post.getContent(), needle)))
+                .sorted(Comparator.comparing(Post::getCreatedAt).thenComparing(Post::getId).reversed())
+                .map(Post::getId)
+                .toList();
+    }
+
+    private static boolean contains(String text, String needle) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(needle);
+    }
+
+    private static Post post(long id, String title, String content) {
+        Post post = new Post();
+        post.setId(id);
+        post.setTitle(title);
+        post.setContent(content);
+        post.setCreatedAt(LocalDateTime.of(2026, 1, 1, 0, 0).plusDays(id));
+        return post;
+    }
+}
@@ -0,0 +1,112 @@
+package io.goorm.mybatisboard.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTest {
+
+    @Test
+    void topReturnsHighestScoresUnderPrefix() {
+        PrefixTrie trie = new PrefixTrie(2);
+        PrefixTrie.Entry spring = new PrefixTrie.Entry("spring", 10);
+        PrefixTrie.Entry springBoot = new PrefixTrie.Entry("spring boot", 30);
+        PrefixTrie.Entry sql = new PrefixTrie.Entry("sql", 20);
+        trie.add("spring", spring);
+        trie.add("spring boot", springBoot);
+        trie.add("sql", sql);
+
+        assertThat(trie.size()).isEqualTo(3);
+        assertThat(trie.top("s", 10)).containsExactly(springBoot, sql);
+        assertThat(trie.top("spr", 10)).containsExactly(springBoot, spring);
+        assertThat(trie.top("spring ", 10)).containsExactly(springBoot);
+        assertThat(trie.top("sq", 1)).containsExactly(sql);
+        assertThat(trie.top("x", 10)).isEmpty();
+        assertThat(trie.top("springs", 10)).isEmpty();
+    }
+
+    @Test
+    void removeRecomputesTopAndMergesEdges() {
+        PrefixTrie trie = new PrefixTrie(1);
+        PrefixTrie.Entry team = new PrefixTrie.Entry("team", 5);
+        PrefixTrie.Entry tea = new PrefixTrie.Entry("tea", 9);
+        trie.add("team", team);
+        trie.add("tea", tea);
+        assertThat(trie.top("te", 10)).containsExactly(tea);
+
+        trie.remove("tea", tea);
+
+        assertThat(trie.size()).isEqualTo(1);
+        assertThat(trie.top("te", 10)).containsExactly(team);
+        assertThat(trie.top("team", 10)).containsExactly(team);
+
+        trie.remove("team", team);
+        assertThat(trie.size()).isZero();
+        assertThat(trie.top("t", 10)).isEmpty();
+    }
+
+    @Test
+    void removingUnknownEntryIsIgnored() {
+        PrefixTrie trie = new PrefixTrie(3);
+        PrefixTrie.Entry entry = new PrefixTrie.Entry("abc", 1);
+        trie.add("abc", entry);
+
+        trie.remove("abc", new PrefixTrie.Entry("abc", 1));
+        trie.remove("abd", entry);
+        trie.remove("ab", entry);
+
+        assertThat(trie.size()).isEqualTo(1);
+        assertThat(trie.top("a", 10)).containsExactly(entry);
+    }
+
+    @Test
+    void matchesBruteForceUnderRandomAddsAndRemoves() {
+        int topK = 3;
+        Random random = new Random(42);
+        PrefixTrie trie = new PrefixTrie(topK);
+        List<Map.Entry<String, PrefixTrie.Entry>> live = new ArrayList<>();
+
+        for (int step = 0; step < 3000; step++) {
+            if (!live.isEmpty() && random.nextInt(3) == 0) {
+                Map.Entry<String, PrefixTrie.Entry> removed = live.remove(random.nextInt(live.size()));
+                trie.remove(removed.getKey(), removed.getValue());
+            } else {
+                String key = randomKey(random);
+                PrefixTrie.Entry entry = new PrefixTrie.Entry(key + "#" + step, random.nextInt(50));
+                trie.add(key, entry);
+                live.add(Map.entry(key, entry));
+            }
+
+            String prefix = randomKey(random).substring(0, 1);
+            for (String query : new String[]{"", prefix, randomKey(random)}) {
+                assertThat(trie.top(query, topK)).as("step %d, prefix '%s'", step, query)
+                        .containsExactlyElementsOf(bruteForce(live, query, topK));
+            }
+        }
+        assertThat(trie.size()).isEqualTo(live.size());
+    }
+
+    private static String randomKey(Random random) {
+        StringBuilder key = new StringBuilder();
+        int length = 1 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            key.append("abc".charAt(random.nextInt(3)));
+        }
+        return key.toString();
+    }
+
+    private static List<PrefixTrie.Entry> bruteForce(List<Map.Entry<String, PrefixTrie.Entry>> live,
+                                                     String prefix, int topK) {
+        return live.stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .map(Map.Entry::getValue)
+                .sorted(PrefixTrie.BY_SCORE)
+                .limit(topK)
+                .toList();
+    }
+}
@@ -0,0 +1,133 @@
+package io.goorm.mybatisboard.service;
+
+import io.goorm.mybatisboard.dto.CategoryPostCountDto;
+import io.goorm.mybatisboard.dto.CategoryStatsReconcileResultDto;
+import io.goorm.mybatisboard.dto.PostFormDto;
+import io.goorm.mybatisboard.mapper.CategoryPostStatsMapper;
+import io.goorm.mybatisboard.mapper.PostMapper;
+import io.goorm.mybatisboard.model.Post;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 카테고리/상태별 게시글 수 요약 (H2) - 게시글 쓰기와 같은 트랜잭션의 증감, 대조 보정
+ */
+@SpringBootTest
+@Transactional
+class CategoryPostStatsServiceTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CategoryPostStatsService categoryPostStatsService;
+
+    @Autowired
+    private CategoryPostStatsMapper categoryPostStatsMapper;
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @Test
+    void saveIncrementsPublishedCount() {
+        long published = count(2L, "PUBLISHED");
+
+        postService.save(form(null));
+
+        assertThat(count(2L, "PUBLISHED")).isEqualTo(published + 1);
+    }
+
+    @Test
+    void categoryChangeMovesCount() {
+        Post post = postService.save(form(2L));
+        long general = count(2L, "PUBLISHED");
+        long question = count(3L, "PUBLISHED");
+
+        postService.update(post.getId(), form(3L));
+
+        assertThat(count(2L, "PUBLISHED")).isEqualTo(general - 1);
+        assertThat(count(3L, "PUBLISHED")).isEqualTo(question + 1);
+    }
+
+    @Test
+    void deleteMovesCountToDeletedOnce() {
+        Post post = postService.save(form(2L));
+        long published = count(2L, "PUBLISHED");
+        long deleted = count(2L, "DELETED");
+
+        postService.delete(post.getId());
+        assertThatThrownBy(() -> postService.delete(post.getId())).isInstanceOf(RuntimeException.class);
+
+        assertThat(count(2L, "PUBLISHED")).isEqualTo(published - 1);
+        assertThat(count(2L, "DELETED")).isEqualTo(deleted + 1);
+    }
+
+    @Test
+    void reconcileRepairsDriftOnlyWhereCountsDiffer() {
+        categoryPostStatsService.reconcile();
+        long published = count(2L, "PUBLISHED");
+        categoryPostStatsMapper.setCount(2L, "PUBLISHED", published + 5);
+        insertWithoutStats(4L, "DRAFT");
+
+        CategoryStatsReconcileResultDto result = categoryPostStatsService.reconcile();
+
+        assertThat(result.getRescanned()).isEqualTo(2);
+        assertThat(result.getRepaired()).isEqualTo(2);
+        assertThat(result.getDrift()).isEqualTo(6);
+        assertThat(count(2L, "PUBLISHED")).isEqualTo(published);
+        assertThat(count(4L, "DRAFT")).isEqualTo(actual(4L, "DRAFT"));
+    }
+
+    @Test
+    void reconcileWithoutDriftRescansNothing() {
+        categoryPostStatsService.reconcile();
+
+        CategoryStatsReconcileResultDto result = categoryPostStatsService.reconcile();
+
+        assertThat(result.getCategories()).isGreaterThanOrEqualTo(5);
+        assertThat(result.getRescanned()).isZero();
+        assertThat(result.getRepaired()).isZero();
+    }
+
+    private long count(Long categoryId, String status) {
+        return categoryPostStatsMapper.findAll().stream()
+                .filter(row -> row.getCategoryId().equals(categoryId) && status.equals(row.getStatus()))
+                .mapToLong(CategoryPostCountDto::getPostCount)
+                .sum();
+    }
+
+    private long actual(Long categoryId, String status) {
+        return categoryPostStatsMapper.countPostsByCategory(categoryId).stream()
+                .filter(row -> status.equals(row.getStatus()))
+                .mapToLong(CategoryPostCountDto::getPostCount)
+                .sum();
+    }
+
+    private static PostFormDto form(Long categoryId) {
+        return new PostFormDto("StatsTest 제목", "요약 테스트", categoryId, "작성자", false);
+    }
+
+    /**
+     * 요약을 거치지 않는 직접 INSERT (파티션 삭제/직접 SQL 수정으로 어긋난 상황 재현)
+     */
+    private void insertWithoutStats(Long categoryId, String status) {
+        Post post = new Post();
+        post.setTitle("StatsTest 직접 입력");
+        post.setContent("요약 테스트");
+        post.setCreatedAt(LocalDateTime.now());
+        post.setUpdatedAt(LocalDateTime.now());
+        post.setCategoryId(categoryId);
+        post.setStatus(status);
+        post.setAuthorName("작성자");
+        post.setViewCount(0);
+        post.setIsNotice(false);
+        postMapper.save(post);
+    }
+}
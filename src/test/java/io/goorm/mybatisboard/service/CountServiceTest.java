@@ -0,0 +1,104 @@
+package io.goorm.mybatisboard.service;
+
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import io.goorm.mybatisboard.mapper.CategoryMapper;
+import io.goorm.mybatisboard.mapper.PostMapper;
+import io.goorm.mybatisboard.model.Post;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CountService (H2) - 추정 개수 상한과 세대 기반 캐시 무효화
+ */
+@SpringBootTest
+@Transactional
+class CountServiceTest {
+
+    private static final String KEYWORD = "countservicetest";
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @Autowired
+    private CategoryMapper categoryMapper;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            save("CountServiceTest " + i);
+        }
+    }
+
+    @Test
+    void estimatedModeStopsCountingAtThreshold() {
+        CountService service = new CountService(postMapper, categoryMapper, "estimated", 3, 60);
+
+        CountService.TotalCount total = service.countPosts(condition());
+
+        assertThat(total.getValue()).isEqualTo(3);
+        assertThat(total.isExact()).isFalse();
+    }
+
+    @Test
+    void estimatedModeIsExactBelowThreshold() {
+        CountService service = new CountService(postMapper, categoryMapper, "estimated", 10, 60);
+
+        CountService.TotalCount total = service.countPosts(condition());
+
+        assertThat(total.getValue()).isEqualTo(5);
+        assertThat(total.isExact()).isTrue();
+    }
+
+    @Test
+    void cachedCountIsReusedUntilPostChanged() {
+        CountService service = new CountService(postMapper, categoryMapper, "exact", 10_000, 60);
+        assertThat(service.countPosts(condition()).getValue()).isEqualTo(5);
+
+        Post added = save("CountServiceTest 5");
+        assertThat(service.countPosts(condition()).getValue()).isEqualTo(5);
+
+        service.onPostChanged(PostChangedEvent.created(added));
+        assertThat(service.countPosts(condition()).getValue()).isEqualTo(6);
+    }
+
+    @Test
+    void keywordCaseAndSpacesShareOneCacheEntry() {
+        CountService service = new CountService(postMapper, categoryMapper, "exact", 10_000, 60);
+        assertThat(service.countPosts(condition()).getValue()).isEqualTo(5);
+
+        save("CountServiceTest 5");
+        SearchConditionDto sameCondition = SearchConditionDto.builder().keyword("  CountServiceTest ").searchType("title").build();
+        sameCondition.validateAndCorrect();
+
+        assertThat(service.countPosts(sameCondition).getValue()).isEqualTo(5);
+    }
+
+    private static SearchConditionDto condition() {
+        SearchConditionDto condition = SearchConditionDto.builder().keyword(KEYWORD).searchType("title").build();
+        condition.validateAndCorrect();
+        return condition;
+    }
+
+    private Post save(String title) {
+        Post post = new Post();
+        post.setTitle(title);
+        post.setContent("개수 테스트");
+        post.setCreatedAt(LocalDateTime.now());
+        post.setUpdatedAt(LocalDateTime.now());
+        post.setCategoryId(2L);
+        post.setStatus("PUBLISHED");
+        post.setAuthorName("작성자");
+        post.setViewCount(0);
+        post.setIsNotice(false);
+        postMapper.save(post);
+        return post;
+    }
+}
@@ -0,0 +1,112 @@
+package io.goorm.mybatisboard.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.mapper.PostMapper;
+import io.goorm.mybatisboard.model.Post;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostExportService (H2) - Cursor 스트리밍 내보내기 형식별 출력
+ */
+@SpringBootTest
+@Transactional
+class PostExportServiceTest {
+
+    private static final String KEYWORD = "exportservicetest";
+
+    @Autowired
+    private PostExportService postExportService;
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void ndjsonStreamsMatchingPostsInIdOrder() throws Exception {
+        Post first = save("ExportServiceTest 1", "본문", "PUBLISHED");
+        Post second = save("ExportServiceTest 2", "본문", "DRAFT");
+        save("ExportServiceTest deleted", "본문", "DELETED");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = postExportService.export(condition(), PostExportService.FORMAT_NDJSON, out);
+
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            rows.add(objectMapper.readTree(line));
+        }
+        assertThat(exported).isEqualTo(2);
+        assertThat(rows).extracting(row -> row.get("id").asLong()).containsExactly(first.getId(), second.getId());
+        assertThat(rows.get(1).get("status").asText()).isEqualTo("DRAFT");
+    }
+
+    @Test
+    void csvQuotesFieldsWithSeparators() throws Exception {
+        Post post = save("ExportServiceTest \"따옴표\"", "쉼표, 그리고\n줄바꿈", "PUBLISHED");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = postExportService.export(condition(), PostExportService.FORMAT_CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(exported).isEqualTo(1);
+        assertThat(csv).startsWith("id,title,content,created_at,updated_at,category_id,status,author_name,view_count,is_notice\r\n");
+        assertThat(csv).contains(post.getId() + ",\"ExportServiceTest \"\"따옴표\"\"\",\"쉼표, 그리고\n줄바꿈\",");
+        assertThat(csv).endsWith(",2,PUBLISHED,작성자,0,false\r\n");
+    }
+
+    @Test
+    void sseEndsWithCountEvent() throws Exception {
+        Post post = save("ExportServiceTest 1", "본문", "PUBLISHED");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        postExportService.export(condition(), PostExportService.FORMAT_SSE, out);
+
+        String sse = out.toString(StandardCharsets.UTF_8);
+        assertThat(sse).startsWith("id: " + post.getId() + "\ndata: {");
+        assertThat(sse).endsWith("\n\nevent: end\ndata: 1\n\n");
+    }
+
+    @Test
+    void noMatchWritesHeaderOnly() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = postExportService.export(condition(), PostExportService.FORMAT_CSV, out);
+
+        assertThat(exported).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8)).doesNotContain(KEYWORD).endsWith("is_notice\r\n");
+    }
+
+    private static SearchConditionDto condition() {
+        SearchConditionDto condition = SearchConditionDto.builder().keyword(KEYWORD).searchType("title").build();
+        condition.validateAndCorrect();
+        return condition;
+    }
+
+    private Post save(String title, String content, String status) {
+        Post post = new Post();
+        post.setTitle(title);
+        post.setContent(content);
+        post.setCreatedAt(LocalDateTime.now());
+        post.setUpdatedAt(LocalDateTime.now());
+        post.setCategoryId(2L);
+        post.setStatus(status);
+        post.setAuthorName("작성자");
+        post.setViewCount(0);
+        post.setIsNotice(false);
+        postMapper.save(post);
+        return post;
+    }
+}
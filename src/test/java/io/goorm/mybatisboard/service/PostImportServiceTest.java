@@ -0,0 +1,135 @@
+package io.goorm.mybatisboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.goorm.mybatisboard.dto.CategoryPostCountDto;
+import io.goorm.mybatisboard.dto.PostImportResultDto;
+import io.goorm.mybatisboard.dto.PostListDto;
+import io.goorm.mybatisboard.mapper.CategoryPostStatsMapper;
+import io.goorm.mybatisboard.mapper.PostMapper;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostImportService (H2) - 배치 세션 청크 커밋과 요약 테이블 증가분
+ * 적재 세션이 테스트 트랜잭션의 커넥션을 함께 쓰므로 청크 커밋은 롤백과 함께 사라짐
+ * 조회는 매번 새 세션으로 (테스트 세션의 1차 캐시가 적재 전 결과를 돌려주지 않도록)
+ */
+@SpringBootTest
+@Transactional
+class PostImportServiceTest {
+
+    private static final String KEYWORD = "importservicetest";
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private PostImportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PostImportService(sqlSessionFactory, objectMapper, eventPublisher, 1000);
+    }
+
+    @Test
+    void importsNdjsonInChunksAndAddsStatsDeltas() throws Exception {
+        long published = count("PUBLISHED");
+        long draft = count("DRAFT");
+        String ndjson = String.join("\n",
+                "{\"title\":\"ImportServiceTest 1\",\"content\":\"본문\",\"categoryId\":2,\"status\":\"PUBLISHED\"}",
+                "{\"title\":\"ImportServiceTest 2\",\"content\":\"본문\"}",
+                "",
+                "{\"title\":\"ImportServiceTest 3\",\"content\":\"본문\",\"categoryId\":2,\"status\":\"DRAFT\"}",
+                "{not json",
+                "{\"content\":\"제목 없음\"}",
+                "{\"title\":\"ImportServiceTest 4\",\"content\":\"본문\",\"authorName\":\"적재\",\"viewCount\":7}",
+                "{\"title\":\"ImportServiceTest 5\",\"content\":\"본문\"}");
+
+        PostImportResultDto result = service.importPosts(stream(ndjson), PostImportService.FORMAT_NDJSON, 2);
+
+        assertThat(result.getImported()).isEqualTo(5);
+        assertThat(result.getSkipped()).isEqualTo(2);
+        assertThat(result.getChunks()).isEqualTo(3);
+        assertThat(count("PUBLISHED")).isEqualTo(published + 4);
+        assertThat(count("DRAFT")).isEqualTo(draft + 1);
+
+        List<PostListDto> posts = findImported();
+        assertThat(posts).extracting(PostListDto::getTitle).containsExactly(
+                "ImportServiceTest 1", "ImportServiceTest 2", "ImportServiceTest 3",
+                "ImportServiceTest 4", "ImportServiceTest 5");
+        assertThat(posts.get(1).getCategoryId()).isEqualTo(2L);
+        assertThat(posts.get(1).getAuthorName()).isEqualTo("작성자");
+        assertThat(posts.get(3).getAuthorName()).isEqualTo("적재");
+        assertThat(posts.get(3).getViewCount()).isEqualTo(7);
+    }
+
+    @Test
+    void importsCsvWithSnakeCaseHeader() throws Exception {
+        String csv = String.join("\n",
+                "title,content,category_id,status,author_name,view_count,is_notice",
+                "ImportServiceTest 1,\"쉼표, 포함\",2,PUBLISHED,적재,3,false",
+                "ImportServiceTest 2,본문,not-a-number,PUBLISHED,적재,0,false",
+                "ImportServiceTest 3,본문,,,,,");
+
+        PostImportResultDto result = service.importPosts(stream(csv), PostImportService.FORMAT_CSV, null);
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getChunks()).isEqualTo(1);
+
+        List<PostListDto> posts = findImported();
+        assertThat(posts).extracting(PostListDto::getTitle)
+                .containsExactly("ImportServiceTest 1", "ImportServiceTest 3");
+        assertThat(posts.get(0).getViewCount()).isEqualTo(3);
+        assertThat(posts.get(1).getStatus()).isEqualTo("PUBLISHED");
+        assertThat(posts.get(1).getAuthorName()).isEqualTo("작성자");
+    }
+
+    @Test
+    void emptyInputImportsNothing() throws Exception {
+        PostImportResultDto result = service.importPosts(stream(""), PostImportService.FORMAT_NDJSON, 2);
+
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getChunks()).isZero();
+    }
+
+    private List<PostListDto> findImported() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            return session.getMapper(PostMapper.class).findAllWithSearch("title", KEYWORD, 0, 100).stream()
+                    .sorted(Comparator.comparing(PostListDto::getTitle))
+                    .toList();
+        }
+    }
+
+    private long count(String status) {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            return session.getMapper(CategoryPostStatsMapper.class).findAll().stream()
+                    .filter(row -> row.getCategoryId() == 2L && status.equals(row.getStatus()))
+                    .mapToLong(CategoryPostCountDto::getPostCount)
+                    .sum();
+        }
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,144 @@
+package io.goorm.mybatisboard.service;
+
+import io.goorm.mybatisboard.dto.CategoryPostCountDto;
+import io.goorm.mybatisboard.dto.PostModerationResultDto;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.mapper.CategoryPostStatsMapper;
+import io.goorm.mybatisboard.mapper.PostMapper;
+import io.goorm.mybatisboard.model.Post;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PostModerationService (H2) - 일괄 소프트 삭제와 영구 삭제, 요약 테이블 이동
+ */
+@SpringBootTest
+@Transactional
+class PostModerationServiceTest {
+
+    private static final long CATEGORY_ID = 2L;
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @Autowired
+    private CategoryPostStatsMapper categoryPostStatsMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PostModerationService service;
+
+    @BeforeEach
+    void setUp() {
+        // 청크 2건, 쉬지 않음, 보존 기간 -1시간 (방금 삭제한 행도 영구 삭제 대상)
+        service = new PostModerationService(postMapper, categoryPostStatsMapper, eventPublisher,
+                transactionManager, 2, 2, 100, 0, -1);
+    }
+
+    @Test
+    void softDeleteByIdsMovesStatsToDeletedInChunks() {
+        Post first = save("ModerationTest 1");
+        Post second = save("ModerationTest 2");
+        Post third = save("ModerationTest 3");
+        long published = count("PUBLISHED");
+        long deleted = count("DELETED");
+
+        PostModerationResultDto result = service.softDelete(List.of(third.getId(), first.getId(), second.getId(), first.getId()));
+
+        assertThat(result.getAffected()).isEqualTo(3);
+        assertThat(result.getChunks()).isEqualTo(2);
+        assertThat(postMapper.findById(first.getId()).getStatus()).isEqualTo("DELETED");
+        assertThat(count("PUBLISHED")).isEqualTo(published - 3);
+        assertThat(count("DELETED")).isEqualTo(deleted + 3);
+    }
+
+    @Test
+    void softDeleteSkipsAlreadyDeletedPosts() {
+        Post post = save("ModerationTest 1");
+        service.softDelete(List.of(post.getId()));
+        long deleted = count("DELETED");
+
+        PostModerationResultDto result = service.softDelete(List.of(post.getId()));
+
+        assertThat(result.getAffected()).isZero();
+        assertThat(count("DELETED")).isEqualTo(deleted);
+    }
+
+    @Test
+    void softDeleteByConditionDeletesOnlyMatchingPosts() {
+        Post first = save("moderationtarget 1");
+        Post second = save("moderationtarget 2");
+        Post other = save("ModerationTest other");
+
+        SearchConditionDto condition = SearchConditionDto.builder().keyword("moderationtarget").searchType("title").build();
+        PostModerationResultDto result = service.softDelete(condition);
+
+        assertThat(result.getAffected()).isEqualTo(2);
+        assertThat(postMapper.findById(first.getId()).getStatus()).isEqualTo("DELETED");
+        assertThat(postMapper.findById(second.getId()).getStatus()).isEqualTo("DELETED");
+        assertThat(postMapper.findById(other.getId()).getStatus()).isEqualTo("PUBLISHED");
+    }
+
+    @Test
+    void softDeleteByEmptyConditionIsRejected() {
+        SearchConditionDto condition = SearchConditionDto.builder().build();
+
+        assertThatThrownBy(() -> service.softDelete(condition))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("삭제 조건");
+    }
+
+    @Test
+    void purgeRemovesOnlySoftDeletedPosts() {
+        Post first = save("ModerationTest 1");
+        Post second = save("ModerationTest 2");
+        Post kept = save("ModerationTest kept");
+        service.softDelete(List.of(first.getId(), second.getId()));
+        long deleted = count("DELETED");
+
+        PostModerationResultDto result = service.purge();
+
+        assertThat(result.getAffected()).isGreaterThanOrEqualTo(2);
+        assertThat(postMapper.findById(first.getId())).isNull();
+        assertThat(postMapper.findById(second.getId())).isNull();
+        assertThat(postMapper.findById(kept.getId())).isNotNull();
+        assertThat(count("DELETED")).isLessThanOrEqualTo(deleted - 2);
+    }
+
+    private long count(String status) {
+        return categoryPostStatsMapper.findAll().stream()
+                .filter(row -> row.getCategoryId() == CATEGORY_ID && status.equals(row.getStatus()))
+                .mapToLong(CategoryPostCountDto::getPostCount)
+                .sum();
+    }
+
+    private Post save(String title) {
+        Post post = new Post();
+        post.setTitle(title);
+        post.setContent("관리 테스트");
+        post.setCreatedAt(LocalDateTime.now());
+        post.setUpdatedAt(LocalDateTime.now());
+        post.setCategoryId(CATEGORY_ID);
+        post.setStatus("PUBLISHED");
+        post.setAuthorName("작성자");
+        post.setViewCount(0);
+        post.setIsNotice(false);
+        postMapper.save(post);
+        return post;
+    }
+}
@@ -0,0 +1,118 @@
+package io.goorm.mybatisboard.service;
+
+import io.goorm.mybatisboard.dto.PostPartitionDto;
+import io.goorm.mybatisboard.event.PostChangedEvent;
+import io.goorm.mybatisboard.mapper.PostPartitionMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 월 파티션 롤링 - 파티션 DDL은 MariaDB 전용이므로 매퍼는 목으로, 추가/삭제할 파티션 이름과 경계만 확인
+ */
+class PostPartitionServiceTest {
+
+    private static final DateTimeFormatter NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter BOUNDARY = DateTimeFormatter.ofPattern("yyyy-MM-'01 00:00:00'");
+
+    private final YearMonth current = YearMonth.now();
+
+    private PostPartitionMapper mapper;
+    private ApplicationEventPublisher eventPublisher;
+    private CategoryPostStatsService categoryPostStatsService;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(PostPartitionMapper.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        categoryPostStatsService = mock(CategoryPostStatsService.class);
+    }
+
+    @Test
+    void addsMonthsAheadAndDropsExpiredMonths() {
+        givenMonthlyPartitions(current.minusMonths(3), current);
+
+        service(2, 2).roll();
+
+        InOrder order = inOrder(mapper);
+        order.verify(mapper).addPartition(name(current.plusMonths(1)), boundary(current.plusMonths(2)));
+        order.verify(mapper).addPartition(name(current.plusMonths(2)), boundary(current.plusMonths(3)));
+        order.verify(mapper).dropPartition(name(current.minusMonths(3)));
+        verify(mapper, never()).dropPartition(name(current.minusMonths(2)));
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class));
+        verify(categoryPostStatsService).reconcile();
+    }
+
+    @Test
+    void laggingRollCatchesUpFromLastPartition() {
+        givenMonthlyPartitions(current.minusMonths(4), current.minusMonths(2));
+
+        service(1, 0).roll();
+
+        InOrder order = inOrder(mapper);
+        order.verify(mapper).addPartition(name(current.minusMonths(1)), boundary(current));
+        order.verify(mapper).addPartition(name(current), boundary(current.plusMonths(1)));
+        order.verify(mapper).addPartition(name(current.plusMonths(1)), boundary(current.plusMonths(2)));
+        verify(mapper, never()).dropPartition(anyString());
+        verify(categoryPostStatsService, never()).reconcile();
+    }
+
+    @Test
+    void monthsAheadBelowOneStillAddsNextMonth() {
+        givenMonthlyPartitions(current, current);
+
+        service(0, 0).roll();
+
+        verify(mapper).addPartition(name(current.plusMonths(1)), boundary(current.plusMonths(2)));
+        verify(mapper, never()).addPartition(name(current.plusMonths(2)), boundary(current.plusMonths(3)));
+    }
+
+    @Test
+    void unpartitionedTableIsLeftAlone() {
+        when(mapper.findPartitions()).thenReturn(List.of());
+
+        service(3, 6).roll();
+
+        verify(mapper, never()).addPartition(anyString(), anyString());
+        verify(mapper, never()).dropPartition(anyString());
+    }
+
+    private PostPartitionService service(int monthsAhead, int retentionMonths) {
+        return new PostPartitionService(mapper, eventPublisher, categoryPostStatsService, monthsAhead, retentionMonths);
+    }
+
+    /**
+     * p_history, first ~ last 월 파티션, p_future
+     */
+    private void givenMonthlyPartitions(YearMonth first, YearMonth last) {
+        List<PostPartitionDto> partitions = new ArrayList<>();
+        partitions.add(new PostPartitionDto("p_history", first.atDay(1).atStartOfDay(), 0));
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            partitions.add(new PostPartitionDto(name(month), month.plusMonths(1).atDay(1).atStartOfDay(), 0));
+        }
+        partitions.add(new PostPartitionDto(PostPartitionService.FUTURE_PARTITION, null, 0));
+        when(mapper.findPartitions()).thenReturn(partitions);
+    }
+
+    private static String name(YearMonth month) {
+        return month.format(NAME);
+    }
+
+    private static String boundary(YearMonth month) {
+        return month.format(BOUNDARY);
+    }
+}
@@ -0,0 +1,115 @@
+package io.goorm.mybatisboard.service;
+
+import io.goorm.mybatisboard.cache.CategoryCache;
+import io.goorm.mybatisboard.cache.PagePrefetcher;
+import io.goorm.mybatisboard.cache.SearchResultCache;
+import io.goorm.mybatisboard.dto.CountedPostWithDetailsDto;
+import io.goorm.mybatisboard.dto.PageDto;
+import io.goorm.mybatisboard.dto.PostWithDetailsDto;
+import io.goorm.mybatisboard.dto.SearchConditionDto;
+import io.goorm.mybatisboard.mapper.CategoryPostStatsMapper;
+import io.goorm.mybatisboard.mapper.PostMapper;
+import io.goorm.mybatisboard.search.PostSearchIndex;
+import io.goorm.mybatisboard.support.ParallelReads;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 단일 조회 모드 - 마지막 페이지를 넘어 행이 없을 때만 카운트 쿼리로 보완
+ * (통합 검색은 트랜잭션 밖에서 실행되므로 테스트 트랜잭션의 행이 보이지 않아 매퍼는 목으로 대신함)
+ */
+class PostServiceWindowCountTest {
+
+    private PostMapper postMapper;
+    private CountService countService;
+    private PostService postService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        postMapper = mock(PostMapper.class);
+        countService = mock(CountService.class);
+        when(countService.isWindowed()).thenReturn(true);
+
+        ParallelReads parallelReads = mock(ParallelReads.class);
+        when(parallelReads.single(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        PagePrefetcher pagePrefetcher = mock(PagePrefetcher.class);
+        when(pagePrefetcher.getOrLoad(anyString(), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+
+        postService = new PostService(postMapper, mock(CategoryPostStatsMapper.class), mock(PostSearchIndex.class),
+                countService, mock(ViewCountService.class), mock(CategoryCache.class), parallelReads, pagePrefetcher,
+                mock(SearchResultCache.class), mock(ObjectProvider.class), mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void totalComesFromWindowCountWithoutCountQuery() {
+        returnRows(12L, 1L, 2L);
+
+        PageDto<PostWithDetailsDto> page = postService.findAllWithConditions(condition(1));
+
+        assertThat(page.getContent()).extracting(PostWithDetailsDto::getId).containsExactly(1L, 2L);
+        assertThat(page.getTotalElements()).isEqualTo(12);
+        verify(countService, never()).countPosts(any());
+    }
+
+    @Test
+    void pagePastTheEndFallsBackToCountQuery() {
+        returnRows(0L);
+        when(countService.countPosts(any())).thenReturn(new CountService.TotalCount(12, true));
+
+        PageDto<PostWithDetailsDto> page = postService.findAllWithConditions(condition(9));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(12);
+        assertThat(page.getTotalPages()).isEqualTo(6);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void emptyFirstPageMeansNoMatches() {
+        returnRows(0L);
+
+        PageDto<PostWithDetailsDto> page = postService.findAllWithConditions(condition(1));
+
+        assertThat(page.getTotalElements()).isZero();
+        verify(countService, never()).countPosts(any());
+    }
+
+    /**
+     * 매퍼가 행마다 같은 전체 개수를 실어 결과 핸들러로 넘기도록
+     */
+    @SuppressWarnings("unchecked")
+    private void returnRows(long total, Long... ids) {
+        doAnswer(invocation -> {
+            ResultHandler<CountedPostWithDetailsDto> handler = invocation.getArgument(1);
+            DefaultResultContext<CountedPostWithDetailsDto> context = new DefaultResultContext<>();
+            for (Long id : ids) {
+                CountedPostWithDetailsDto row = new CountedPostWithDetailsDto();
+                row.setId(id);
+                row.setTotalCount(total);
+                context.nextResultObject(row);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(postMapper).findAllWithConditionsCounted(any(), any());
+    }
+
+    private static SearchConditionDto condition(int page) {
+        return SearchConditionDto.builder().status("PUBLISHED").page(page).size(2).build();
+    }
+}
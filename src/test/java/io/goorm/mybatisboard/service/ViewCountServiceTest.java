@@ -0,0 +1,91 @@
+package io.goorm.mybatisboard.service;
+
+import io.goorm.mybatisboard.mapper.PostViewCountMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ViewCountServiceTest {
+
+    private PostViewCountMapper mapper;
+    private ViewCountService service;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(PostViewCountMapper.class);
+        service = new ViewCountService(mapper, 500);
+    }
+
+    @Test
+    void flushWritesAccumulatedDeltasOnce() {
+        service.increment(1L);
+        service.increment(1L);
+        service.increment(2L);
+        assertThat(service.pendingDelta(1L)).isEqualTo(2L);
+
+        service.flush();
+        service.flush();
+
+        verify(mapper, times(1)).incrementViewCounts(Map.of(1L, 2L, 2L, 1L));
+        assertThat(service.pendingDelta(1L)).isZero();
+        assertThat(service.pendingDelta(2L)).isZero();
+    }
+
+    @Test
+    void emptyFlushDoesNotTouchDatabase() {
+        service.flush();
+
+        verify(mapper, never()).incrementViewCounts(anyMap());
+    }
+
+    @Test
+    void failedWriteIsRetriedOnNextFlush() {
+        doThrow(new RuntimeException("db down")).doNothing().when(mapper).incrementViewCounts(anyMap());
+        service.increment(7L);
+        service.increment(7L);
+
+        service.flush();
+        assertThat(service.pendingDelta(7L)).isEqualTo(2L);
+
+        service.increment(7L);
+        service.flush();
+
+        verify(mapper).incrementViewCounts(Map.of(7L, 3L));
+        assertThat(service.pendingDelta(7L)).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void oversizedMapIsRetiredAndFullyDrained() {
+        int posts = 100_001;
+        for (long id = 1; id <= posts; id++) {
+            service.increment(id);
+        }
+
+        service.flush();
+
+        ArgumentCaptor<Map<Long, Long>> chunks = ArgumentCaptor.forClass(Map.class);
+        verify(mapper, atLeastOnce()).incrementViewCounts(chunks.capture());
+        long written = chunks.getAllValues().stream()
+                .flatMap(chunk -> chunk.values().stream())
+                .mapToLong(Long::longValue)
+                .sum();
+        assertThat(written).isEqualTo(posts);
+        assertThat(chunks.getAllValues()).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(500));
+        assertThat(service.pendingDelta(1L)).isZero();
+
+        service.increment(1L);
+        assertThat(service.pendingDelta(1L)).isEqualTo(1L);
+    }
+}